@@ -0,0 +1,8 @@
+-- 게시글 파생 콘텐츠 컬럼 (본문 평문, 단어 수, 읽기 시간, 목차)
+-- prd는 ddl-auto=validate이므로 배포 전에 실행한다.
+-- 기존 게시글은 애플리케이션 시작 시 plain_text가 NULL인 행만 한 번 채운다 (BlogService.backfillDerivedContent).
+ALTER TABLE blog_posts
+    ADD COLUMN plain_text TEXT NULL,
+    ADD COLUMN word_count INT NULL,
+    ADD COLUMN reading_minutes INT NULL,
+    ADD COLUMN toc TEXT NULL;
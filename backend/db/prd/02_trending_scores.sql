@@ -0,0 +1,10 @@
+-- 트렌딩 점수 스냅샷 (TrendingEngine이 주기적으로 저장하고 시작 시 복원)
+CREATE TABLE IF NOT EXISTS trending_scores (
+    trending_score_id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id BIGINT NOT NULL,
+    trending_window VARCHAR(10) NOT NULL,
+    score DOUBLE NOT NULL,
+    snapshot_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (trending_score_id),
+    UNIQUE KEY uk_trending_scores_post_window (post_id, trending_window)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
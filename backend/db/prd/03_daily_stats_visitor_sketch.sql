@@ -0,0 +1,4 @@
+-- 날짜별 방문자 HyperLogLog 스케치 (4KB 고정 크기)
+-- 지난 날짜의 스케치는 애플리케이션 시작 시 visitor_stats에서 만들어 채운다 (VisitorSketches.backfill).
+ALTER TABLE daily_stats
+    ADD COLUMN visitor_sketch BLOB NULL;
@@ -0,0 +1,21 @@
+-- 방문자 시간/일/월 집계와 집계 진행 위치
+-- VisitorRollupEngine의 INSERT ... ON DUPLICATE KEY UPDATE는 (granularity, bucket_start) 유일 키와
+-- rollup_watermarks의 기본 키(name)에 의존한다.
+CREATE TABLE IF NOT EXISTS visitor_rollups (
+    rollup_id BIGINT NOT NULL AUTO_INCREMENT,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    visitor_count BIGINT NOT NULL,
+    top_referers TEXT NULL,
+    top_user_agents TEXT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (rollup_id),
+    UNIQUE KEY uk_visitor_rollups_granularity_bucket (granularity, bucket_start)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS rollup_watermarks (
+    name VARCHAR(50) NOT NULL,
+    last_id BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -1,6 +1,12 @@
 package com.thehfpv.controller;
 
 import com.thehfpv.repository.UserRepository;
+import com.thehfpv.security.RoleChangeRegistry;
+import com.thehfpv.security.VerifiedTokenCache;
+import com.thehfpv.service.BlogPostCache;
+import com.thehfpv.service.PostResponseCache;
+import com.thehfpv.service.UserCache;
+import com.thehfpv.service.VisitorSketches;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,18 +22,68 @@ public class AdminController {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private BlogPostCache blogPostCache;
+    
+    @Autowired
+    private PostResponseCache postResponseCache;
+    
+    @Autowired
+    private UserCache userCache;
+    
+    @Autowired
+    private VisitorSketches visitorSketches;
+    
+    @Autowired
+    private RoleChangeRegistry roleChangeRegistry;
+    
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("postCache", blogPostCache.getStats());
+        response.put("postResponseCache", postResponseCache.getStats());
+        response.put("userCache", userCache.getStats());
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/visitor-sketches/backfill")
+    public ResponseEntity<?> backfillVisitorSketches(@RequestParam(defaultValue = "false") boolean all) {
+        try {
+            // Rebuild per-day visitor sketches from visitor_stats
+            int days = visitorSketches.backfill(all);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Visitor sketches backfilled");
+            response.put("days", days);
+            return ResponseEntity.ok(response);
+        
+        } catch (Exception e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "Failed to backfill visitor sketches: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
     @DeleteMapping("/clear-data")
     public ResponseEntity<?> clearAllData() {
         try {
             // Delete all users
             userRepository.deleteAll();
+            userCache.evictAll();
+            
+            // Tokens issued to the deleted users must re-resolve the user (and fail)
+            roleChangeRegistry.changedAll();
+            verifiedTokenCache.clear();
             
             Map<String, String> response = new HashMap<>();
             response.put("message", "All data cleared successfully");
             response.put("usersDeleted", "All users deleted");
             
             return ResponseEntity.ok(response);
-            
+        
         } catch (Exception e) {
             Map<String, String> response = new HashMap<>();
             response.put("error", "Failed to clear data: " + e.getMessage());
@@ -35,4 +91,3 @@ public class AdminController {
         }
     }
 }
-
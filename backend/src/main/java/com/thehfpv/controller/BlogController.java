@@ -1,18 +1,36 @@
 package com.thehfpv.controller;
 
 import com.thehfpv.model.BlogPost;
+import com.thehfpv.model.BlogPostSummary;
 import com.thehfpv.model.User;
+import com.thehfpv.security.AuthenticatedUser;
+import com.thehfpv.security.CurrentUser;
 import com.thehfpv.service.BlogService;
-import com.thehfpv.repository.UserRepository;
+import com.thehfpv.service.ContentDerivation;
+import com.thehfpv.service.FeedCursor;
+import com.thehfpv.service.PostResponseCache;
+import com.thehfpv.service.TrendingWindow;
+import com.thehfpv.service.search.FacetCount;
+import com.thehfpv.service.search.Facets;
+import com.thehfpv.service.search.SearchResults;
+import com.thehfpv.service.search.Suggestion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -25,30 +43,25 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 public class BlogController {
     
+    // Conditional GET responses: the browser may store the body but must revalidate with
+    // If-None-Match on every use. Overrides Spring Security's default no-store header.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private BlogService blogService;
     
     @Autowired
-    private UserRepository userRepository;
+    private PostResponseCache postResponseCache;
     
     // Create a new blog post
     @PostMapping("/posts")
-    public ResponseEntity<?> createPost(@RequestBody Map<String, Object> postData) {
+    public ResponseEntity<?> createPost(@RequestBody Map<String, Object> postData, @CurrentUser User author) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (author == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User author = userOpt.get();
-            
             BlogPost blogPost = new BlogPost();
             blogPost.setTitle((String) postData.get("title"));
             blogPost.setContent((String) postData.get("content"));
@@ -103,7 +116,10 @@ public class BlogController {
     @GetMapping("/posts")
     public ResponseEntity<?> getAllPublishedPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @CurrentUser AuthenticatedUser currentUser,
+            WebRequest webRequest) {
         
         // Convert 1-based page to 0-based page for frontend compatibility
         if (page > 0) {
@@ -113,27 +129,27 @@ public class BlogController {
             System.out.println("=== getAllPublishedPosts called ===");
             System.out.println("Page: " + page + ", Size: " + size);
             
-            // Get current user if authenticated
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Long currentUserId = null;
-            boolean isRootUser = false;
-            
-            if (auth != null && auth.isAuthenticated() && !(auth.getPrincipal() instanceof String && "anonymousUser".equals(auth.getPrincipal()))) {
-                String email = auth.getName();
-                Optional<User> userOpt = userRepository.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    currentUserId = user.getUserId();
-                    isRootUser = user.getUserRole() == com.thehfpv.model.UserRole.ROOT;
-                    System.out.println("=== User Role Check ===");
-                    System.out.println("User email: " + email);
-                    System.out.println("User role: " + user.getUserRole());
-                    System.out.println("Is ROOT? " + isRootUser);
+            // Current user if authenticated (resolved from the security context)
+            Long currentUserId = currentUserId(currentUser);
+            boolean isRootUser = isRootUser(currentUser);
+            if (currentUser != null) {
+                System.out.println("=== User Role Check ===");
+                System.out.println("User email: " + currentUser.getEmail());
+                System.out.println("User role: " + currentUser.getUserRole());
+                System.out.println("Is ROOT? " + isRootUser);
+            }
+            
+            // Cursor mode (public feed): keyset seek, no count query
+            if (cursor != null && !isRootUser) {
+                Slice<BlogPostSummary> slice = blogService.getPublishedPostsAfter(FeedCursor.decode(cursor), size);
+                if (webRequest.checkNotModified(listEtag(slice.getContent(), slice.hasNext() ? 1 : 0, currentUserId))) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
                 }
+                return ResponseEntity.ok().cacheControl(REVALIDATE).body(toCursorPage(slice, currentUserId));
             }
             
             // ROOT users see all posts, others see only published posts
-            Page<BlogPost> posts;
+            Page<BlogPostSummary> posts;
             if (isRootUser) {
                 System.out.println("ROOT user detected - fetching all posts including DRAFT");
                 posts = blogService.getAllPostsForAdmin(page, size);
@@ -144,48 +160,14 @@ public class BlogController {
             
             System.out.println("Found " + posts.getTotalElements() + " posts");
             System.out.println("Posts content size: " + posts.getContent().size());
-            System.out.println("Posts content: " + posts.getContent());
             
-            // Transform posts to include like count and user's like status
-            List<Map<String, Object>> transformedPosts = new ArrayList<>();
-            for (BlogPost post : posts.getContent()) {
-                Map<String, Object> postMap = new HashMap<>();
-                postMap.put("postId", post.getPostId());
-                postMap.put("title", post.getTitle());
-                postMap.put("content", post.getContent());
-                postMap.put("excerpt", post.getExcerpt());
-                postMap.put("category", post.getCategory());
-                postMap.put("tags", post.getTags());
-                postMap.put("featured", post.getFeatured());
-                postMap.put("featuredImageUrl", post.getFeaturedImageUrl());
-                postMap.put("slug", post.getSlug());
-                postMap.put("status", post.getStatus());
-                postMap.put("createdAt", post.getCreatedAt());
-                postMap.put("publishedAt", post.getPublishedAt());
-                postMap.put("updatedAt", post.getUpdatedAt());
-                postMap.put("viewCount", post.getViewCount());
-                postMap.put("likeCount", blogService.getLikeCount(post.getPostId()));
-                
-                // Add user's like status if authenticated
-                if (currentUserId != null) {
-                    postMap.put("isLiked", blogService.isLikedByUser(post.getPostId(), currentUserId));
-                } else {
-                    postMap.put("isLiked", false);
-                }
-                
-                postMap.put("author", post.getAuthor());
-                transformedPosts.add(postMap);
-                
-                System.out.println("Post ID: " + post.getPostId() + 
-                    ", Title: " + post.getTitle() + 
-                    ", Status: " + post.getStatus() + 
-                    ", PublishedAt: " + post.getPublishedAt() +
-                    ", ViewCount: " + post.getViewCount() +
-                    ", LikeCount: " + blogService.getLikeCount(post.getPostId()) +
-                    ", IsLiked: " + (currentUserId != null ? blogService.isLikedByUser(post.getPostId(), currentUserId) : false) +
-                    ", Author: " + (post.getAuthor() != null ? post.getAuthor().getFirstName() : "null"));
+            if (webRequest.checkNotModified(listEtag(posts.getContent(), posts.getTotalElements(), currentUserId))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
             }
             
+            // Transform posts to include like count and user's like status
+            List<Map<String, Object>> transformedPosts = toPostListItems(posts.getContent(), currentUserId);
+            
             Map<String, Object> response = Map.of(
                 "success", true,
                 "posts", transformedPosts,
@@ -195,7 +177,10 @@ public class BlogController {
             );
             
             System.out.println("Response: " + response);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
         } catch (Exception e) {
             System.out.println("Error in getAllPublishedPosts: " + e.getMessage());
             e.printStackTrace();
@@ -206,12 +191,13 @@ public class BlogController {
 
     // Get a specific blog post by ID
     @GetMapping("/posts/{id}")
-    public ResponseEntity<?> getPostById(@PathVariable Long id) {
+    public ResponseEntity<?> getPostById(@PathVariable Long id, WebRequest webRequest) {
         try {
             System.out.println("=== getPostById called ===");
             System.out.println("Post ID: " + id);
             
-            Optional<BlogPost> postOpt = blogService.getPostById(id);
+            // Only published posts are served (and cached)
+            Optional<BlogPost> postOpt = blogService.getPublishedPostById(id);
             
             if (!postOpt.isPresent()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -220,41 +206,35 @@ public class BlogController {
             
             BlogPost post = postOpt.get();
             
-            // Check if post is published
-            if (!"PUBLISHED".equals(post.getStatus())) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "Post not found"));
-            }
-            
             System.out.println("Found post: " + post.getTitle() + " by " + 
                              (post.getAuthor() != null ? post.getAuthor().getFirstName() : "Unknown"));
             
-            // Increment view count
+            // Increment view count (buffered; reflected in the response without re-reading the post).
+            // Counted before the conditional check so repeat readers served a 304 still register a view.
             blogService.incrementViewCount(post.getPostId());
             
-            // Refresh post to get updated view count
-            post = blogService.getPostById(id).orElse(post);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("postId", post.getPostId());
-            response.put("title", post.getTitle());
-            response.put("content", post.getContent());
-            response.put("excerpt", post.getExcerpt());
-            response.put("category", post.getCategory());
-            response.put("tags", post.getTags());
-            response.put("featured", post.getFeatured());
-            response.put("featuredImageUrl", post.getFeaturedImageUrl());
-            response.put("slug", post.getSlug());
-            response.put("status", post.getStatus());
-            response.put("createdAt", post.getCreatedAt());
-            response.put("publishedAt", post.getPublishedAt());
-            response.put("updatedAt", post.getUpdatedAt());
-            response.put("viewCount", post.getViewCount());
-            response.put("likeCount", blogService.getLikeCount(post.getPostId()));
-            response.put("author", post.getAuthor());
-            response.put("success", true);
+            if (webRequest.checkNotModified(postEtag(post), lastModifiedOf(post))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+            }
             
-            return ResponseEntity.ok(response);
+            // The detail body has no per-user fields, so it is serialized (and gzipped) once per
+            // post version and served as bytes. The version includes the persisted view count, so
+            // the body is regenerated after each view-count flush.
+            String version = postEtag(post) + "-" + post.getViewCount();
+            PostResponseCache.Entry cached = postResponseCache.get(post.getPostId(), version, () -> {
+                Map<String, Object> response = toPostDetail(post);
+                response.put("success", true);
+                return response;
+            });
+            
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.getGzip());
+            }
+            return builder.body(cached.getJson());
         } catch (Exception e) {
             System.err.println("Error in getPostById: " + e.getMessage());
             e.printStackTrace();
@@ -265,15 +245,18 @@ public class BlogController {
     
     // Get post by slug (public)
     @GetMapping("/posts/slug/{slug}")
-    public ResponseEntity<?> getPostBySlug(@PathVariable String slug) {
+    public ResponseEntity<?> getPostBySlug(@PathVariable String slug, WebRequest webRequest) {
         try {
             Optional<BlogPost> post = blogService.getPublishedPostBySlug(slug);
             if (post.isPresent()) {
                 // Increment view count
                 blogService.incrementViewCount(post.get().getPostId());
-                return ResponseEntity.ok(Map.of(
+                if (webRequest.checkNotModified(postEtag(post.get()), lastModifiedOf(post.get()))) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+                }
+                return ResponseEntity.ok().cacheControl(REVALIDATE).body(Map.of(
                     "success", true,
-                    "post", post.get()
+                    "post", toPostDetail(post.get())
                 ));
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -305,28 +288,31 @@ public class BlogController {
     public ResponseEntity<?> getPostsByCategory(
             @PathVariable String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @CurrentUser AuthenticatedUser currentUser,
+            WebRequest webRequest) {
         try {
             // Convert 1-based page to 0-based page for frontend compatibility
             if (page > 0) {
                 page = page - 1;
             }
             
-            // Get current user if authenticated
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            boolean isRootUser = false;
-            
-            if (auth != null && auth.isAuthenticated() && !(auth.getPrincipal() instanceof String && "anonymousUser".equals(auth.getPrincipal()))) {
-                String email = auth.getName();
-                Optional<User> userOpt = userRepository.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    isRootUser = user.getUserRole() == com.thehfpv.model.UserRole.ROOT;
+            // Current user if authenticated (resolved from the security context)
+            Long currentUserId = currentUserId(currentUser);
+            boolean isRootUser = isRootUser(currentUser);
+            
+            // Cursor mode (public feed): keyset seek, no count query
+            if (cursor != null && !isRootUser) {
+                Slice<BlogPostSummary> slice = blogService.getPostsByCategoryAfter(category, FeedCursor.decode(cursor), size);
+                if (webRequest.checkNotModified(listEtag(slice.getContent(), slice.hasNext() ? 1 : 0, currentUserId))) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
                 }
+                return ResponseEntity.ok().cacheControl(REVALIDATE).body(toCursorPage(slice, currentUserId));
             }
             
             // ROOT users see all posts, others see only published posts
-            Page<BlogPost> posts;
+            Page<BlogPostSummary> posts;
             if (isRootUser) {
                 System.out.println("ROOT user detected - fetching all posts in category including DRAFT");
                 posts = blogService.getAllPostsByCategoryForAdmin(category, page, size);
@@ -335,13 +321,20 @@ public class BlogController {
                 posts = blogService.getPostsByCategory(category, page, size);
             }
             
-            return ResponseEntity.ok(Map.of(
+            if (webRequest.checkNotModified(listEtag(posts.getContent(), posts.getTotalElements(), currentUserId))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+            }
+            
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(Map.of(
                 "success", true,
-                "posts", posts.getContent(),
+                "posts", toPostListItems(posts.getContent(), currentUserId),
                 "totalPages", posts.getTotalPages(),
                 "totalElements", posts.getTotalElements(),
                 "currentPage", posts.getNumber()
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("success", false, "message", "Error fetching posts by category: " + e.getMessage()));
@@ -353,52 +346,164 @@ public class BlogController {
     public ResponseEntity<?> searchPosts(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @CurrentUser AuthenticatedUser currentUser) {
         try {
-            // Get current user if authenticated
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            boolean isRootUser = false;
-            
-            if (auth != null && auth.isAuthenticated() && !(auth.getPrincipal() instanceof String && "anonymousUser".equals(auth.getPrincipal()))) {
-                String email = auth.getName();
-                Optional<User> userOpt = userRepository.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    isRootUser = user.getUserRole() == com.thehfpv.model.UserRole.ROOT;
-                }
+            // Current user if authenticated (resolved from the security context)
+            Long currentUserId = currentUserId(currentUser);
+            boolean isRootUser = isRootUser(currentUser);
+            
+            // Cursor mode (public search): keyset seek, no count query
+            if (cursor != null && !isRootUser) {
+                SearchResults<Slice<BlogPostSummary>> results =
+                    blogService.searchPublishedPostsAfter(keyword, FeedCursor.decode(cursor), size);
+                Map<String, Object> response = toCursorPage(results.getResults(), currentUserId);
+                putSearchFacets(response, results.getFacets());
+                return ResponseEntity.ok(response);
             }
             
             // ROOT users search all posts, others search only published posts
-            Page<BlogPost> posts;
+            SearchResults<Page<BlogPostSummary>> results;
             if (isRootUser) {
                 System.out.println("ROOT user detected - searching all posts including DRAFT");
-                posts = blogService.searchAllPostsForAdmin(keyword, page, size);
+                results = blogService.searchAllPostsForAdmin(keyword, page, size);
             } else {
                 System.out.println("Regular user - searching published posts only");
-                posts = blogService.searchPublishedPosts(keyword, page, size);
+                results = blogService.searchPublishedPosts(keyword, page, size);
             }
+            Page<BlogPostSummary> posts = results.getResults();
             
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("posts", toPostListItems(posts.getContent(), currentUserId));
+            response.put("totalPages", posts.getTotalPages());
+            response.put("totalElements", posts.getTotalElements());
+            response.put("currentPage", posts.getNumber());
+            putSearchFacets(response, results.getFacets());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "Error searching posts: " + e.getMessage()));
+        }
+    }
+    
+    // Filter posts by tags (public): all = every tag required, any = at least one of them
+    @GetMapping("/posts/tags")
+    public ResponseEntity<?> getPostsByTags(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser AuthenticatedUser currentUser) {
+        List<String> allTags = all != null ? all : new ArrayList<>();
+        List<String> anyTags = any != null ? any : new ArrayList<>();
+        if (allTags.isEmpty() && anyTags.isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", "At least one of 'all' or 'any' is required"));
+        }
+        
+        // Convert 1-based page to 0-based page for frontend compatibility
+        if (page > 0) {
+            page = page - 1;
+        }
+        
+        try {
+            Page<BlogPostSummary> posts = blogService.getPostsByTags(allTags, anyTags, page, size);
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "posts", posts.getContent(),
+                "posts", toPostListItems(posts.getContent(), currentUserId(currentUser)),
                 "totalPages", posts.getTotalPages(),
                 "totalElements", posts.getTotalElements(),
                 "currentPage", posts.getNumber()
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("success", false, "message", "Error searching posts: " + e.getMessage()));
+                .body(Map.of("success", false, "message", "Error fetching posts by tags: " + e.getMessage()));
+        }
+    }
+    
+    // Get trending posts (public): window = day, week or month
+    @GetMapping("/posts/trending")
+    public ResponseEntity<?> getTrendingPosts(
+            @RequestParam(defaultValue = "week") String window,
+            @RequestParam(defaultValue = "5") int limit) {
+        try {
+            List<BlogPostSummary> posts = blogService.getTrendingPosts(TrendingWindow.fromParam(window), limit);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "window", window,
+                "posts", toPostListItems(posts, null)
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "Error fetching trending posts: " + e.getMessage()));
+        }
+    }
+    
+    // Related posts for a post detail view (public)
+    @GetMapping("/posts/{id}/related")
+    public ResponseEntity<?> getRelatedPosts(@PathVariable Long id, @RequestParam(defaultValue = "3") int limit) {
+        try {
+            List<BlogPostSummary> posts = blogService.getRelatedPosts(id, limit);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "posts", toPostListItems(posts, null)
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "Error fetching related posts: " + e.getMessage()));
+        }
+    }
+    
+    // Published post counts per category and per tag (public, for the category sidebar and tag cloud)
+    @GetMapping("/facets")
+    public ResponseEntity<?> getFacets() {
+        try {
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "facets", toFacetMap(blogService.getFacets())
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "Error fetching facets: " + e.getMessage()));
+        }
+    }
+    
+    // Search-as-you-type suggestions (public)
+    @GetMapping("/posts/suggest")
+    public ResponseEntity<?> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<Map<String, Object>> suggestions = new ArrayList<>();
+        for (Suggestion suggestion : blogService.suggest(q, limit)) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("text", suggestion.getText());
+            item.put("type", suggestion.getType());
+            item.put("postId", suggestion.getPostId());
+            item.put("slug", suggestion.getSlug());
+            suggestions.add(item);
         }
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "suggestions", suggestions
+        ));
     }
     
     // Get recent posts (public)
     @GetMapping("/posts/recent")
     public ResponseEntity<?> getRecentPosts(@RequestParam(defaultValue = "5") int limit) {
         try {
-            List<BlogPost> posts = blogService.getRecentPosts(limit);
+            List<BlogPostSummary> posts = blogService.getRecentPosts(limit);
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "posts", posts
+                "posts", toPostListItems(posts, null)
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -410,10 +515,10 @@ public class BlogController {
     @GetMapping("/posts/popular")
     public ResponseEntity<?> getMostViewedPosts(@RequestParam(defaultValue = "5") int limit) {
         try {
-            List<BlogPost> posts = blogService.getMostViewedPosts(limit);
+            List<BlogPostSummary> posts = blogService.getMostViewedPosts(limit);
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "posts", posts
+                "posts", toPostListItems(posts, null)
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -425,22 +530,14 @@ public class BlogController {
     @GetMapping("/my-posts")
     public ResponseEntity<?> getMyPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser User author) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (author == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User author = userOpt.get();
-            
             Page<BlogPost> posts = blogService.getPostsByAuthor(author, page, size);
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -457,22 +554,13 @@ public class BlogController {
     
     // Get author's posts by status (authenticated)
     @GetMapping("/my-posts/status/{status}")
-    public ResponseEntity<?> getMyPostsByStatus(@PathVariable String status) {
+    public ResponseEntity<?> getMyPostsByStatus(@PathVariable String status, @CurrentUser User author) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (author == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User author = userOpt.get();
-            
             List<BlogPost> posts = blogService.getAuthorPostsByStatus(author, status);
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -486,22 +574,13 @@ public class BlogController {
     
     // Update post (authenticated - author only)
     @PutMapping("/posts/{postId}")
-    public ResponseEntity<?> updatePost(@PathVariable Long postId, @RequestBody Map<String, Object> postData) {
+    public ResponseEntity<?> updatePost(@PathVariable Long postId, @RequestBody Map<String, Object> postData, @CurrentUser AuthenticatedUser author) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (author == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User author = userOpt.get();
-            
             Optional<BlogPost> existingPost = blogService.getPostById(postId);
             if (!existingPost.isPresent()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -580,22 +659,13 @@ public class BlogController {
     
     // Delete post (authenticated - author only)
     @DeleteMapping("/posts/{postId}")
-    public ResponseEntity<?> deletePost(@PathVariable Long postId) {
+    public ResponseEntity<?> deletePost(@PathVariable Long postId, @CurrentUser AuthenticatedUser author) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (author == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User author = userOpt.get();
-            
             Optional<BlogPost> existingPost = blogService.getPostById(postId);
             if (!existingPost.isPresent()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -623,22 +693,13 @@ public class BlogController {
     
     // Publish post (authenticated - author only)
     @PostMapping("/posts/{postId}/publish")
-    public ResponseEntity<?> publishPost(@PathVariable Long postId) {
+    public ResponseEntity<?> publishPost(@PathVariable Long postId, @CurrentUser AuthenticatedUser author) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (author == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User author = userOpt.get();
-            
             Optional<BlogPost> existingPost = blogService.getPostById(postId);
             if (!existingPost.isPresent()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -694,22 +755,13 @@ public class BlogController {
 
     // Toggle like for a blog post
     @PostMapping("/posts/{id}/like")
-    public ResponseEntity<?> toggleLike(@PathVariable Long id) {
+    public ResponseEntity<?> toggleLike(@PathVariable Long id, @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (user == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User user = userOpt.get();
-            
             boolean isLiked = blogService.toggleLike(id, user.getUserId());
             int likeCount = blogService.getLikeCount(id);
             
@@ -729,22 +781,13 @@ public class BlogController {
 
     // Get like status for a blog post
     @GetMapping("/posts/{id}/like-status")
-    public ResponseEntity<?> getLikeStatus(@PathVariable Long id) {
+    public ResponseEntity<?> getLikeStatus(@PathVariable Long id, @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (user == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User user = userOpt.get();
-            
             boolean isLiked = blogService.isLikedByUser(id, user.getUserId());
             int likeCount = blogService.getLikeCount(id);
             
@@ -764,22 +807,13 @@ public class BlogController {
     
     // Get posts liked by current user
     @GetMapping("/my-likes")
-    public ResponseEntity<?> getMyLikes() {
+    public ResponseEntity<?> getMyLikes(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null || !auth.isAuthenticated()) {
+            if (user == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("success", false, "message", "Authentication required"));
             }
             
-            String email = auth.getName();
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (!userOpt.isPresent()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("success", false, "message", "User not found"));
-            }
-            User user = userOpt.get();
-            
             List<BlogPost> likedPosts = blogService.getPostsLikedByUser(user.getUserId());
             
             return ResponseEntity.ok(Map.of(
@@ -811,4 +845,189 @@ public class BlogController {
                 .body(Map.of("success", false, "message", "Failed to get total posts count: " + e.getMessage()));
         }
     }
+    
+    // Build the detail representation of a post, with view count including buffered views
+    private Map<String, Object> toPostDetail(BlogPost post) {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("postId", post.getPostId());
+        detail.put("title", post.getTitle());
+        detail.put("content", post.getContent());
+        detail.put("excerpt", post.getExcerpt());
+        detail.put("category", post.getCategory());
+        detail.put("tags", post.getTags());
+        detail.put("featured", post.getFeatured());
+        detail.put("featuredImageUrl", post.getFeaturedImageUrl());
+        detail.put("slug", post.getSlug());
+        detail.put("status", post.getStatus());
+        detail.put("createdAt", post.getCreatedAt());
+        detail.put("publishedAt", post.getPublishedAt());
+        detail.put("updatedAt", post.getUpdatedAt());
+        detail.put("viewCount", blogService.getViewCount(post));
+        detail.put("likeCount", post.getLikeCount());
+        detail.put("wordCount", post.getWordCount());
+        detail.put("readingMinutes", post.getReadingMinutes());
+        detail.put("toc", ContentDerivation.parseToc(post.getToc()));
+        detail.put("author", post.getAuthor());
+        return detail;
+    }
+    
+    // Build list items for a page of post summaries. Like counts come from the summary row;
+    // the current user's like status for the whole page is resolved with one query.
+    private List<Map<String, Object>> toPostListItems(List<BlogPostSummary> posts, Long currentUserId) {
+        Map<Long, BlogService.LikeSummary> likeSummaries = new HashMap<>();
+        if (currentUserId != null && !posts.isEmpty()) {
+            List<Long> postIds = new ArrayList<>();
+            for (BlogPostSummary post : posts) {
+                postIds.add(post.getPostId());
+            }
+            likeSummaries = blogService.getLikeSummaries(postIds, currentUserId);
+        }
+        
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (BlogPostSummary post : posts) {
+            BlogService.LikeSummary likes = likeSummaries.getOrDefault(post.getPostId(), BlogService.LikeSummary.NONE);
+            
+            Map<String, Object> postMap = new HashMap<>();
+            postMap.put("postId", post.getPostId());
+            postMap.put("title", post.getTitle());
+            postMap.put("excerpt", post.getExcerpt());
+            postMap.put("readingMinutes", post.getReadingMinutes());
+            postMap.put("category", post.getCategory());
+            postMap.put("tags", post.getTags());
+            postMap.put("featured", post.getFeatured());
+            postMap.put("featuredImageUrl", post.getFeaturedImageUrl());
+            postMap.put("slug", post.getSlug());
+            postMap.put("status", post.getStatus());
+            postMap.put("createdAt", post.getCreatedAt());
+            postMap.put("publishedAt", post.getPublishedAt());
+            postMap.put("updatedAt", post.getUpdatedAt());
+            postMap.put("viewCount", blogService.getViewCount(post.getPostId(), post.getViewCount()));
+            postMap.put("likeCount", post.getLikeCount() != null ? post.getLikeCount() : 0L);
+            postMap.put("isLiked", likes.isLiked());
+            postMap.put("author", toAuthorSummary(post));
+            items.add(postMap);
+        }
+        return items;
+    }
+    
+    // Weak ETag for a post detail: changes on any edit (updatedAt), on like count changes and when the
+    // view count moves to another bucket. The bucket is coarse so a single view does not invalidate every
+    // reader's copy; a revalidated copy shows a view count at most about 10% (or 10 views) behind.
+    private String postEtag(BlogPost post) {
+        return "W/\"" + post.getPostId() + "-" + lastModifiedOf(post) + "-" + post.getLikeCount()
+            + "-" + viewBucket(post.getViewCount()) + "\"";
+    }
+    
+    // View count truncated to its two leading digits (tens below 1000)
+    private static long viewBucket(Long viewCount) {
+        long views = viewCount != null ? viewCount : 0L;
+        long step = 10;
+        while (views >= step * 100) {
+            step *= 10;
+        }
+        return views - views % step;
+    }
+    
+    // Weak ETag for a list page: max updatedAt, total count, the posts on the page, their like
+    // counts and the reader (the isLiked flags differ per user)
+    private String listEtag(List<BlogPostSummary> posts, long total, Long currentUserId) {
+        StringBuilder key = new StringBuilder();
+        key.append(currentUserId).append('|').append(total);
+        LocalDateTime maxUpdatedAt = null;
+        for (BlogPostSummary post : posts) {
+            key.append('|').append(post.getPostId()).append(':').append(post.getLikeCount());
+            LocalDateTime updatedAt = post.getUpdatedAt() != null ? post.getUpdatedAt() : post.getCreatedAt();
+            if (updatedAt != null && (maxUpdatedAt == null || updatedAt.isAfter(maxUpdatedAt))) {
+                maxUpdatedAt = updatedAt;
+            }
+        }
+        key.append('|').append(maxUpdatedAt);
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+    
+    // Whether the client accepts gzip (an explicit q=0 opts out)
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim().replace(" ", "");
+                    if (param.matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Last-Modified timestamp (epoch millis) of a post, -1 when unknown
+    private long lastModifiedOf(BlogPost post) {
+        LocalDateTime updatedAt = post.getUpdatedAt() != null ? post.getUpdatedAt() : post.getCreatedAt();
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+    
+    // Cursor-mode response: nextCursor points after the last row and is null on the last page
+    private Map<String, Object> toCursorPage(Slice<BlogPostSummary> slice, Long currentUserId) {
+        List<BlogPostSummary> posts = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !posts.isEmpty()) {
+            nextCursor = FeedCursor.after(posts.get(posts.size() - 1)).encode();
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("posts", toPostListItems(posts, currentUserId));
+        response.put("nextCursor", nextCursor);
+        response.put("hasMore", slice.hasNext());
+        return response;
+    }
+    
+    // Attach category/tag counts over all published matches to a search response (omitted until the indexes are built)
+    private void putSearchFacets(Map<String, Object> response, Facets facets) {
+        if (facets != null) {
+            response.put("facets", toFacetMap(facets));
+        }
+    }
+    
+    private Map<String, Object> toFacetMap(Facets facets) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("categories", toFacetItems(facets.getCategories()));
+        map.put("tags", toFacetItems(facets.getTags()));
+        return map;
+    }
+    
+    private List<Map<String, Object>> toFacetItems(List<FacetCount> counts) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (FacetCount count : counts) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("value", count.getValue());
+            item.put("count", count.getCount());
+            items.add(item);
+        }
+        return items;
+    }
+    
+    private Long currentUserId(AuthenticatedUser currentUser) {
+        return currentUser != null ? currentUser.getUserId() : null;
+    }
+    
+    // ROOT users see drafts and scheduled posts in lists and search
+    private boolean isRootUser(AuthenticatedUser currentUser) {
+        return currentUser != null && currentUser.isRoot();
+    }
+    
+    // Author fields exposed in list views
+    private Map<String, Object> toAuthorSummary(BlogPostSummary post) {
+        Map<String, Object> author = new HashMap<>();
+        author.put("userId", post.getAuthorId());
+        author.put("firstName", post.getAuthorFirstName());
+        author.put("lastName", post.getAuthorLastName());
+        author.put("profileImageUrl", post.getAuthorProfileImageUrl());
+        return author;
+    }
 }
@@ -1,5 +1,7 @@
 package com.thehfpv.controller;
 
+import com.thehfpv.security.RoleChangeRegistry;
+import com.thehfpv.service.UserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +22,12 @@ public class DatabaseController {
     @Autowired
     private DataSource dataSource;
     
+    @Autowired
+    private UserCache userCache;
+    
+    @Autowired
+    private RoleChangeRegistry roleChangeRegistry;
+    
     @GetMapping("/test")
     public ResponseEntity<?> testConnection() {
         Map<String, Object> response = new HashMap<>();
@@ -49,7 +57,7 @@ public class DatabaseController {
             ));
             
             return ResponseEntity.ok(response);
-            
+        
         } catch (SQLException e) {
             response.put("status", "error");
             response.put("message", "Database connection failed");
@@ -81,7 +89,7 @@ public class DatabaseController {
             ));
             
             return ResponseEntity.ok(response);
-            
+        
         } catch (SQLException e) {
             response.put("error", "Failed to get database info: " + e.getMessage());
             return ResponseEntity.status(500).body(response);
@@ -121,6 +129,11 @@ public class DatabaseController {
                         int rowsAffected = updateStmt.executeUpdate();
                         
                         if (rowsAffected > 0) {
+                            // 캐시된 사용자 정보 무효화
+                            userCache.evict((long) userId, email);
+                            // 이전 권한이 담긴 발급된 토큰은 사용자를 다시 조회하도록 표시
+                            roleChangeRegistry.changed((long) userId);
+                            
                             response.put("status", "success");
                             response.put("message", "User role updated successfully");
                             response.put("user", Map.of(
@@ -141,7 +154,7 @@ public class DatabaseController {
                     }
                 }
             }
-            
+        
         } catch (SQLException e) {
             response.put("status", "error");
             response.put("message", "Database error: " + e.getMessage());
@@ -1,8 +1,7 @@
 package com.thehfpv.controller;
 
 import com.thehfpv.model.User;
-import com.thehfpv.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.thehfpv.security.CurrentUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,11 +16,8 @@ import java.util.Map;
 @RequestMapping("/api/session")
 public class SessionController {
 
-    @Autowired
-    private UserRepository userRepository;
-
     @GetMapping("/user")
-    public ResponseEntity<Map<String, Object>> getSessionUser(HttpServletRequest request) {
+    public ResponseEntity<Map<String, Object>> getSessionUser(HttpServletRequest request, @CurrentUser User currentUser) {
         System.out.println("=== SessionController.getSessionUser 호출됨 ===");
         System.out.println("Request URI: " + request.getRequestURI());
         System.out.println("Request URL: " + request.getRequestURL());
@@ -45,39 +41,13 @@ public class SessionController {
         System.out.println("- user: " + (user != null ? user.getEmail() : "null"));
         System.out.println("- jwtToken: " + (jwtToken != null ? "있음" : "없음"));
         
-        // OAuth2 인증인 경우 세션에서 사용자 정보를 직접 가져오기
-        if ((isAuthenticated == null || !isAuthenticated) && user == null) {
-            System.out.println("OAuth2 인증 확인 중...");
-            
-            // Spring Security 컨텍스트에서 OAuth2 인증 정보 확인
-            org.springframework.security.core.Authentication auth = 
-                org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-            
-            if (auth != null && auth.isAuthenticated() && 
-                auth instanceof org.springframework.security.oauth2.core.user.OAuth2User) {
-                
-                org.springframework.security.oauth2.core.user.OAuth2User oauth2User = 
-                    (org.springframework.security.oauth2.core.user.OAuth2User) auth;
-                
-                String email = oauth2User.getAttribute("email");
-                System.out.println("OAuth2 인증된 사용자: " + email);
-                
-                if (email != null) {
-                    // DB에서 사용자 정보 조회
-                    try {
-                        user = userRepository.findByEmail(email).orElse(null);
-                        if (user != null) {
-                            // 세션에 사용자 정보 저장
-                            session.setAttribute("user", user);
-                            session.setAttribute("isAuthenticated", true);
-                            isAuthenticated = true;
-                            System.out.println("OAuth2 사용자 정보를 세션에 저장: " + user.getEmail());
-                        }
-                    } catch (Exception e) {
-                        System.out.println("OAuth2 사용자 정보 조회 실패: " + e.getMessage());
-                    }
-                }
-            }
+        // OAuth2 인증인 경우 인증 컨텍스트의 사용자를 세션에 저장
+        if ((isAuthenticated == null || !isAuthenticated) && user == null && currentUser != null) {
+            user = currentUser;
+            session.setAttribute("user", user);
+            session.setAttribute("isAuthenticated", true);
+            isAuthenticated = true;
+            System.out.println("OAuth2 사용자 정보를 세션에 저장: " + user.getEmail());
         }
         
         Map<String, Object> response = new HashMap<>();
@@ -2,10 +2,12 @@ package com.thehfpv.controller;
 
 import com.thehfpv.service.VisitorService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import java.util.Map;
 
 @RestController
@@ -18,14 +20,15 @@ public class VisitorController {
     
     /**
      * 방문자 통계 조회
-     * GET /api/visitor/stats
+     * GET /api/visitor/stats?from=&to=
+     * from/to(yyyy-MM-dd)를 주면 기간 고유 방문자 수(rangeVisitors)를 함께 반환
      */
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getVisitorStats() {
+    public ResponseEntity<Map<String, Object>> getVisitorStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         try {
-            System.out.println("=== VisitorController.getVisitorStats 호출됨 ===");
-            
-            Map<String, Object> stats = visitorService.getVisitorStats();
+            Map<String, Object> stats = visitorService.getVisitorStats(from, to);
             
             if ("error".equals(stats.get("status"))) {
                 return ResponseEntity.badRequest().body(stats);
@@ -48,6 +51,37 @@ public class VisitorController {
         }
     }
     
+    /**
+     * 방문자 시계열 조회 (시간/일/월 집계)
+     * GET /api/visitor/series?granularity=hour|day|month&from=yyyy-MM-dd&to=yyyy-MM-dd
+     */
+    @GetMapping("/series")
+    public ResponseEntity<Map<String, Object>> getVisitorSeries(
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            Map<String, Object> series = visitorService.getVisitorSeries(granularity, from, to);
+            
+            if ("error".equals(series.get("status"))) {
+                return ResponseEntity.badRequest().body(series);
+            }
+            
+            return ResponseEntity.ok(series);
+            
+        } catch (Exception e) {
+            System.err.println("방문자 시계열 조회 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+            
+            Map<String, Object> errorResponse = Map.of(
+                "status", "error",
+                "message", "방문자 시계열 조회 중 오류가 발생했습니다."
+            );
+            
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
     /**
      * 방문자 추적
      * POST /api/visitor/track
@@ -55,11 +89,6 @@ public class VisitorController {
     @PostMapping("/track")
     public ResponseEntity<Map<String, Object>> trackVisitor(HttpServletRequest request) {
         try {
-            System.out.println("=== VisitorController.trackVisitor 호출됨 ===");
-            System.out.println("Request URI: " + request.getRequestURI());
-            System.out.println("Remote Address: " + request.getRemoteAddr());
-            System.out.println("User-Agent: " + request.getHeader("User-Agent"));
-            
             visitorService.trackVisitor(request);
             
             Map<String, Object> response = Map.of(
@@ -5,7 +5,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "blog_posts")
+@Table(name = "blog_posts", indexes = {
+    // Keyset pagination of public feeds (see FeedCursor)
+    @Index(name = "idx_blog_posts_status_created", columnList = "status, created_at, post_id"),
+    @Index(name = "idx_blog_posts_category_status_created", columnList = "category, status, created_at, post_id")
+})
 public class BlogPost {
     
     @Id
@@ -47,9 +51,14 @@ public class BlogPost {
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
     
-    @Column(name = "view_count")
+    // Maintained by ViewCountBuffer through batched UPDATEs only
+    @Column(name = "view_count", updatable = false)
     private Long viewCount = 0L;
     
+    // Maintained by BlogService.toggleLike and LikeCountReconciler through direct UPDATEs only
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long likeCount = 0L;
+    
     @Column(name = "liked_users", columnDefinition = "TEXT")
     private String likedUsers;
     
@@ -62,6 +71,20 @@ public class BlogPost {
     @Column(name = "featured_image_url", length = 500)
     private String featuredImageUrl;
     
+    // Derived from content at write time (see ContentDerivation)
+    @Column(name = "plain_text", columnDefinition = "TEXT")
+    private String plainText;
+    
+    @Column(name = "word_count")
+    private Integer wordCount;
+    
+    @Column(name = "reading_minutes")
+    private Integer readingMinutes;
+    
+    // Table of contents as JSON: [{"level", "text", "anchor"}]
+    @Column(name = "toc", columnDefinition = "TEXT")
+    private String toc;
+    
     // Constructors
     public BlogPost() {
         this.createdAt = LocalDateTime.now();
@@ -190,6 +213,14 @@ public class BlogPost {
         this.viewCount = viewCount;
     }
     
+    public Long getLikeCount() {
+        return likeCount;
+    }
+    
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+    
     public String getLikedUsers() {
         return likedUsers;
     }
@@ -225,6 +256,39 @@ public class BlogPost {
         this.updatedAt = LocalDateTime.now();
     }
     
+    // Derived fields follow content, which already bumps updatedAt
+    public String getPlainText() {
+        return plainText;
+    }
+    
+    public void setPlainText(String plainText) {
+        this.plainText = plainText;
+    }
+    
+    public Integer getWordCount() {
+        return wordCount;
+    }
+    
+    public void setWordCount(Integer wordCount) {
+        this.wordCount = wordCount;
+    }
+    
+    public Integer getReadingMinutes() {
+        return readingMinutes;
+    }
+    
+    public void setReadingMinutes(Integer readingMinutes) {
+        this.readingMinutes = readingMinutes;
+    }
+    
+    public String getToc() {
+        return toc;
+    }
+    
+    public void setToc(String toc) {
+        this.toc = toc;
+    }
+    
     // Helper methods
     public void incrementViewCount() {
         this.viewCount++;
@@ -0,0 +1,50 @@
+package com.thehfpv.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 프로젝션
+ * content, liked_users 같은 TEXT 컬럼 없이 목록 화면에 필요한 컬럼만 조회한다.
+ * (BlogPostRepository의 *Summaries 쿼리에서 alias 이름으로 매핑됨)
+ */
+public interface BlogPostSummary {
+    
+    Long getPostId();
+    
+    String getTitle();
+    
+    String getSlug();
+    
+    String getExcerpt();
+    
+    Integer getReadingMinutes();
+    
+    String getCategory();
+    
+    String getTags();
+    
+    Boolean getFeatured();
+    
+    String getFeaturedImageUrl();
+    
+    String getStatus();
+    
+    LocalDateTime getCreatedAt();
+    
+    LocalDateTime getPublishedAt();
+    
+    LocalDateTime getUpdatedAt();
+    
+    Long getViewCount();
+    
+    Long getLikeCount();
+    
+    // 작성자 요약
+    Long getAuthorId();
+    
+    String getAuthorFirstName();
+    
+    String getAuthorLastName();
+    
+    String getAuthorProfileImageUrl();
+}
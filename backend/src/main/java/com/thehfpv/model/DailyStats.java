@@ -2,6 +2,7 @@ package com.thehfpv.model;
 
 import jakarta.persistence.*;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,6 +26,12 @@ public class DailyStats {
     @Column(name = "total_visitors", nullable = false)
     private Long totalVisitors = 0L;
     
+    // 그날 방문자 IP의 HyperLogLog 스케치 (HyperLogLog.toBytes 형식)
+    @JsonIgnore
+    @Lob
+    @Column(name = "visitor_sketch", columnDefinition = "BLOB")
+    private byte[] visitorSketch;
+    
     @JsonFormat(pattern = "MM-dd-yyyy HH:mm:ss")
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -80,6 +87,14 @@ public class DailyStats {
         this.totalVisitors = totalVisitors;
     }
     
+    public byte[] getVisitorSketch() {
+        return visitorSketch;
+    }
+    
+    public void setVisitorSketch(byte[] visitorSketch) {
+        this.visitorSketch = visitorSketch;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,77 @@
+package com.thehfpv.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 점수 스냅샷 (재시작 시 트렌딩 순위 복원용)
+ * 점수는 snapshotAt 시점까지 감쇠가 반영된 값이다.
+ */
+@Entity
+@Table(name = "trending_scores", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"post_id", "trending_window"})
+})
+public class TrendingScore {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "trending_score_id")
+    private Long trendingScoreId;
+    
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+    
+    @Column(name = "trending_window", nullable = false, length = 10)
+    private String trendingWindow;
+    
+    @Column(name = "score", nullable = false)
+    private Double score;
+    
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+    
+    // Constructors
+    public TrendingScore() {
+    }
+    
+    // Getters and Setters
+    public Long getTrendingScoreId() {
+        return trendingScoreId;
+    }
+    
+    public void setTrendingScoreId(Long trendingScoreId) {
+        this.trendingScoreId = trendingScoreId;
+    }
+    
+    public Long getPostId() {
+        return postId;
+    }
+    
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+    
+    public String getTrendingWindow() {
+        return trendingWindow;
+    }
+    
+    public void setTrendingWindow(String trendingWindow) {
+        this.trendingWindow = trendingWindow;
+    }
+    
+    public Double getScore() {
+        return score;
+    }
+    
+    public void setScore(Double score) {
+        this.score = score;
+    }
+    
+    public LocalDateTime getSnapshotAt() {
+        return snapshotAt;
+    }
+    
+    public void setSnapshotAt(LocalDateTime snapshotAt) {
+        this.snapshotAt = snapshotAt;
+    }
+}
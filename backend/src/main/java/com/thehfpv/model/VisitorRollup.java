@@ -0,0 +1,100 @@
+package com.thehfpv.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 방문자 시간 단위 집계 (시간/일/월)
+ * visitorCount는 구간에 기록된 visitor_stats 행 수(일별 고유 방문자의 합)이다.
+ * 상위 리퍼러(호스트)와 브라우저 계열은 {"값": 수} 형태의 JSON으로 저장한다.
+ */
+@Entity
+@Table(name = "visitor_rollups", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"granularity", "bucket_start"})
+})
+public class VisitorRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+    
+    @Column(name = "granularity", nullable = false, length = 10)
+    private String granularity;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "visitor_count", nullable = false)
+    private Long visitorCount = 0L;
+    
+    @Column(name = "top_referers", columnDefinition = "TEXT")
+    private String topReferers;
+    
+    @Column(name = "top_user_agents", columnDefinition = "TEXT")
+    private String topUserAgents;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public VisitorRollup() {
+    }
+    
+    // Getters and Setters
+    public Long getRollupId() {
+        return rollupId;
+    }
+    
+    public void setRollupId(Long rollupId) {
+        this.rollupId = rollupId;
+    }
+    
+    public String getGranularity() {
+        return granularity;
+    }
+    
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+    
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+    
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+    
+    public Long getVisitorCount() {
+        return visitorCount;
+    }
+    
+    public void setVisitorCount(Long visitorCount) {
+        this.visitorCount = visitorCount;
+    }
+    
+    public String getTopReferers() {
+        return topReferers;
+    }
+    
+    public void setTopReferers(String topReferers) {
+        this.topReferers = topReferers;
+    }
+    
+    public String getTopUserAgents() {
+        return topUserAgents;
+    }
+    
+    public void setTopUserAgents(String topUserAgents) {
+        this.topUserAgents = topUserAgents;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,21 +1,42 @@
 package com.thehfpv.repository;
 
 import com.thehfpv.model.BlogPost;
+import com.thehfpv.model.BlogPostSummary;
 import com.thehfpv.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     
+    // Summary columns for list views (maps onto BlogPostSummary; never reads content/liked_users)
+    String SUMMARY_SELECT = "SELECT bp.postId AS postId, bp.title AS title, bp.slug AS slug, " +
+           "bp.excerpt AS excerpt, bp.readingMinutes AS readingMinutes, bp.category AS category, bp.tags AS tags, bp.featured AS featured, " +
+           "bp.featuredImageUrl AS featuredImageUrl, bp.status AS status, bp.createdAt AS createdAt, " +
+           "bp.publishedAt AS publishedAt, bp.updatedAt AS updatedAt, bp.viewCount AS viewCount, " +
+           "bp.likeCount AS likeCount, a.userId AS authorId, a.firstName AS authorFirstName, " +
+           "a.lastName AS authorLastName, a.profileImageUrl AS authorProfileImageUrl " +
+           "FROM BlogPost bp JOIN bp.author a ";
+    
+    // Keyset condition: rows strictly older than the cursor position (createdAt, postId)
+    String BEFORE_CURSOR = "(bp.createdAt < :createdAt OR (bp.createdAt = :createdAt AND bp.postId < :postId)) ";
+    
+    String KEYWORD_MATCH = "(LOWER(bp.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(bp.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(bp.tags) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+    
     // Find published posts
     List<BlogPost> findByStatusOrderByPublishedAtDesc(String status);
     
@@ -65,6 +86,10 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     @Query("SELECT bp FROM BlogPost bp WHERE bp.status = 'SCHEDULED' AND bp.scheduledAt <= :now")
     List<BlogPost> findScheduledPostsToPublish(@Param("now") LocalDateTime now);
     
+    // Pending schedules (id and scheduledAt) for the publish timer
+    @Query("SELECT bp.postId, bp.scheduledAt FROM BlogPost bp WHERE bp.status = 'SCHEDULED' AND bp.scheduledAt IS NOT NULL")
+    List<Object[]> findScheduledRows();
+    
     // Search posts by title or content
     @Query("SELECT bp FROM BlogPost bp WHERE bp.status = 'PUBLISHED' AND " +
            "(LOWER(bp.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -104,6 +129,10 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     // Count posts by status
     long countByStatus(String status);
     
+    // Post counts for every status in one query (seeds the in-memory status counters)
+    @Query("SELECT bp.status, COUNT(bp) FROM BlogPost bp GROUP BY bp.status")
+    List<Object[]> countGroupedByStatus();
+    
     // Count posts by author and status
     long countByAuthorAndStatus(User author, String status);
     
@@ -115,17 +144,157 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
            "ORDER BY bp.viewCount DESC")
     List<BlogPost> findMostViewedPosts(Pageable pageable);
     
-    // Find related posts (same category, excluding current post)
-    @Query("SELECT bp FROM BlogPost bp WHERE bp.status = 'PUBLISHED' AND " +
-           "bp.category = :category AND bp.postId != :excludeId " +
-           "ORDER BY bp.publishedAt DESC")
-    List<BlogPost> findRelatedPosts(@Param("category") String category, 
-                                   @Param("excludeId") Long excludeId, 
-                                   Pageable pageable);
-    
     // Check if slug exists
     boolean existsBySlug(String slug);
     
-    // Check if slug exists excluding current post
+    // Check if another post holds the slug
     boolean existsBySlugAndPostIdNot(String slug, Long postId);
+    
+    // Slugs equal to the base or of the form base-N, optionally excluding a post (slug allocation
+    // in one round trip)
+    @Query("SELECT bp.slug FROM BlogPost bp WHERE (bp.slug = :slug OR bp.slug LIKE CONCAT(:slug, '-%')) " +
+           "AND (:excludeId IS NULL OR bp.postId <> :excludeId)")
+    List<String> findSlugFamily(@Param("slug") String slug, @Param("excludeId") Long excludeId);
+    
+    // Read the denormalized like count without loading the post
+    @Query("SELECT bp.likeCount FROM BlogPost bp WHERE bp.postId = :postId")
+    Optional<Long> findLikeCountByPostId(@Param("postId") Long postId);
+    
+    // Like counts plus the given user's liked flag for a page of posts; userId may be null
+    @Query("SELECT bp.postId, bp.likeCount, " +
+           "(SELECT COUNT(bl) FROM BlogLike bl WHERE bl.post = bp AND bl.user.userId = :userId) " +
+           "FROM BlogPost bp WHERE bp.postId IN :postIds")
+    List<Object[]> summarizeLikesByPostIds(@Param("postIds") Collection<Long> postIds,
+                                           @Param("userId") Long userId);
+    
+    // Atomically adjust the denormalized like count (joins the caller's transaction)
+    @Modifying
+    @Query(value = "UPDATE blog_posts SET like_count = GREATEST(COALESCE(like_count, 0) + :delta, 0) " +
+                   "WHERE post_id = :postId", nativeQuery = true)
+    int adjustLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+    
+    // Recompute like_count from blog_likes for a post id range, touching only drifted rows
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE blog_posts bp " +
+                   "LEFT JOIN (SELECT bl.post_id, COUNT(*) AS cnt FROM blog_likes bl " +
+                   "WHERE bl.post_id BETWEEN :fromId AND :toId GROUP BY bl.post_id) l " +
+                   "ON l.post_id = bp.post_id " +
+                   "SET bp.like_count = COALESCE(l.cnt, 0) " +
+                   "WHERE bp.post_id BETWEEN :fromId AND :toId " +
+                   "AND NOT (bp.like_count <=> COALESCE(l.cnt, 0))", nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+    
+    // Highest post id, used to walk the table in id ranges
+    @Query("SELECT MAX(bp.postId) FROM BlogPost bp")
+    Optional<Long> findMaxPostId();
+    
+    // Published post summaries, newest first
+    @Query(value = SUMMARY_SELECT + "WHERE bp.status = 'PUBLISHED' ORDER BY bp.createdAt DESC",
+           countQuery = "SELECT COUNT(bp) FROM BlogPost bp WHERE bp.status = 'PUBLISHED'")
+    Page<BlogPostSummary> findPublishedSummaries(Pageable pageable);
+    
+    // All post summaries (for ROOT users), newest first
+    @Query(value = SUMMARY_SELECT + "ORDER BY bp.createdAt DESC",
+           countQuery = "SELECT COUNT(bp) FROM BlogPost bp")
+    Page<BlogPostSummary> findAllSummaries(Pageable pageable);
+    
+    // Published post summaries in a category, in the same order as the keyset feed so that
+    // idx_blog_posts_category_status_created serves both modes
+    @Query(value = SUMMARY_SELECT + "WHERE bp.category = :category AND bp.status = 'PUBLISHED' " +
+                   "ORDER BY bp.createdAt DESC, bp.postId DESC",
+           countQuery = "SELECT COUNT(bp) FROM BlogPost bp WHERE bp.category = :category AND bp.status = 'PUBLISHED'")
+    Page<BlogPostSummary> findPublishedSummariesByCategory(@Param("category") String category, Pageable pageable);
+    
+    // All post summaries in a category (for ROOT users)
+    @Query(value = SUMMARY_SELECT + "WHERE bp.category = :category ORDER BY bp.createdAt DESC",
+           countQuery = "SELECT COUNT(bp) FROM BlogPost bp WHERE bp.category = :category")
+    Page<BlogPostSummary> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+    
+    // Search published post summaries by title, content or tags
+    @Query(value = SUMMARY_SELECT + "WHERE bp.status = 'PUBLISHED' AND " + KEYWORD_MATCH +
+                   "ORDER BY bp.publishedAt DESC",
+           countQuery = "SELECT COUNT(bp) FROM BlogPost bp WHERE bp.status = 'PUBLISHED' AND " + KEYWORD_MATCH)
+    Page<BlogPostSummary> searchPublishedSummaries(@Param("keyword") String keyword, Pageable pageable);
+    
+    // Search all post summaries (for ROOT users)
+    @Query(value = SUMMARY_SELECT + "WHERE " + KEYWORD_MATCH + "ORDER BY bp.createdAt DESC",
+           countQuery = "SELECT COUNT(bp) FROM BlogPost bp WHERE " + KEYWORD_MATCH)
+    Page<BlogPostSummary> searchAllSummaries(@Param("keyword") String keyword, Pageable pageable);
+    
+    // Recent published post summaries
+    @Query(SUMMARY_SELECT + "WHERE bp.status = 'PUBLISHED' ORDER BY bp.publishedAt DESC")
+    List<BlogPostSummary> findRecentPublishedSummaries(Pageable pageable);
+    
+    // Most viewed published post summaries
+    @Query(SUMMARY_SELECT + "WHERE bp.status = 'PUBLISHED' ORDER BY bp.viewCount DESC")
+    List<BlogPostSummary> findMostViewedSummaries(Pageable pageable);
+    
+    // Summaries for a set of post ids (order is not guaranteed)
+    @Query(SUMMARY_SELECT + "WHERE bp.postId IN :postIds")
+    List<BlogPostSummary> findSummariesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+    
+    // Posts whose derived content fields have never been generated (id, content and excerpt). Keyed on
+    // plain text only, which derivation always sets, so posts with empty content are backfilled once.
+    @Query("SELECT bp.postId, bp.content, bp.excerpt FROM BlogPost bp WHERE bp.plainText IS NULL")
+    List<Object[]> findPostsMissingDerivedContent();
+    
+    // Set the derived content fields without touching updated_at
+    @Modifying
+    @Query("UPDATE BlogPost bp SET bp.plainText = :plainText, bp.wordCount = :wordCount, " +
+           "bp.readingMinutes = :readingMinutes, bp.toc = :toc, bp.excerpt = :excerpt WHERE bp.postId = :postId")
+    int updateDerivedContent(@Param("postId") Long postId,
+                             @Param("plainText") String plainText,
+                             @Param("wordCount") Integer wordCount,
+                             @Param("readingMinutes") Integer readingMinutes,
+                             @Param("toc") String toc,
+                             @Param("excerpt") String excerpt);
+    
+    // Keyset page of published summaries (no count query; Slice fetches one extra row)
+    @Query(SUMMARY_SELECT + "WHERE bp.status = 'PUBLISHED' AND " + BEFORE_CURSOR +
+           "ORDER BY bp.createdAt DESC, bp.postId DESC")
+    Slice<BlogPostSummary> findPublishedSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("postId") Long postId,
+                                                        Pageable pageable);
+    
+    // Keyset page of published summaries in a category
+    @Query(SUMMARY_SELECT + "WHERE bp.category = :category AND bp.status = 'PUBLISHED' AND " + BEFORE_CURSOR +
+           "ORDER BY bp.createdAt DESC, bp.postId DESC")
+    Slice<BlogPostSummary> findPublishedSummariesByCategoryBefore(@Param("category") String category,
+                                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                                  @Param("postId") Long postId,
+                                                                  Pageable pageable);
+    
+    // Keyset page of published search results
+    @Query(SUMMARY_SELECT + "WHERE bp.status = 'PUBLISHED' AND " + KEYWORD_MATCH + "AND " + BEFORE_CURSOR +
+           "ORDER BY bp.createdAt DESC, bp.postId DESC")
+    Slice<BlogPostSummary> searchPublishedSummariesBefore(@Param("keyword") String keyword,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("postId") Long postId,
+                                                          Pageable pageable);
+    
+    // Rows for building the search index, in post id order (chunked by afterId).
+    // HTML content is only fetched for posts whose plain text has not been derived yet.
+    @Query("SELECT bp.postId, bp.title, bp.tags, bp.plainText, bp.status, bp.createdAt, " +
+           "CASE WHEN bp.plainText IS NULL THEN bp.content ELSE NULL END FROM BlogPost bp " +
+           "WHERE bp.postId > :afterId ORDER BY bp.postId")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Published post fields for the autocomplete index
+    @Query("SELECT bp.postId, bp.title, bp.slug, bp.tags, bp.category, bp.viewCount, bp.likeCount FROM BlogPost bp " +
+           "WHERE bp.status = 'PUBLISHED'")
+    List<Object[]> findSuggestRows();
+    
+    // Published post ids and raw tag strings for the tag index
+    @Query("SELECT bp.postId, bp.tags FROM BlogPost bp WHERE bp.status = 'PUBLISHED'")
+    List<Object[]> findPublishedTagRows();
+    
+    // Published post ids, categories and raw tag strings for the facet counts
+    @Query("SELECT bp.postId, bp.category, bp.tags FROM BlogPost bp WHERE bp.status = 'PUBLISHED'")
+    List<Object[]> findPublishedFacetRows();
+    
+    // Published post fields for the related-posts engine
+    @Query("SELECT bp.postId, bp.title, bp.tags, bp.plainText, bp.category, " +
+           "CASE WHEN bp.plainText IS NULL THEN bp.content ELSE NULL END FROM BlogPost bp WHERE bp.status = 'PUBLISHED'")
+    List<Object[]> findRelatedRows();
 }
@@ -39,4 +39,16 @@ public interface DailyStatsRepository extends JpaRepository<DailyStats, Long> {
      */
     @Query("SELECT ds FROM DailyStats ds WHERE ds.statDate BETWEEN :startDate AND :endDate ORDER BY ds.statDate ASC")
     java.util.List<DailyStats> findByStatDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    /**
+     * 방문자 스케치가 저장된 통계 조회
+     */
+    @Query("SELECT ds FROM DailyStats ds WHERE ds.visitorSketch IS NOT NULL ORDER BY ds.statDate ASC")
+    java.util.List<DailyStats> findAllWithVisitorSketch();
+    
+    /**
+     * 방문자 스케치가 저장된 마지막 날짜 (없으면 null)
+     */
+    @Query("SELECT MAX(ds.statDate) FROM DailyStats ds WHERE ds.visitorSketch IS NOT NULL")
+    LocalDate findLatestVisitorSketchDate();
 }
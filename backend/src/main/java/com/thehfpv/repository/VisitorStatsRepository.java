@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -34,6 +35,12 @@ public interface VisitorStatsRepository extends JpaRepository<VisitorStats, Long
      */
     boolean existsByVisitorIpAndVisitorDate(String visitorIp, LocalDate visitorDate);
     
+    /**
+     * 특정 날짜의 방문자 IP 목록 (방문자 중복 제거 집합 적재용)
+     */
+    @Query("SELECT vs.visitorIp FROM VisitorStats vs WHERE vs.visitorDate = :date")
+    List<String> findVisitorIpsByDate(@Param("date") LocalDate date);
+    
     /**
      * 특정 날짜 범위의 방문자 수 조회
      */
@@ -0,0 +1,58 @@
+package com.thehfpv.security;
+
+import com.thehfpv.model.User;
+import com.thehfpv.model.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * JWT 클레임으로 만든 인증 주체 (사용자 ID, 이메일, 권한)
+ * 토큰 발급 시점의 값이며, 요청마다 DB에서 사용자를 읽지 않기 위해 사용한다.
+ * 전체 User 엔티티가 필요한 곳은 {@link CurrentUser} User 파라미터로 받는다.
+ */
+public final class AuthenticatedUser implements Principal, Serializable {
+    
+    private final Long userId;
+    private final String email;
+    private final UserRole userRole;
+    
+    public AuthenticatedUser(Long userId, String email, UserRole userRole) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+    }
+    
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUserRole());
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public UserRole getUserRole() {
+        return userRole;
+    }
+    
+    public boolean isRoot() {
+        return userRole == UserRole.ROOT;
+    }
+    
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userRole.getCode()));
+    }
+    
+    @Override
+    public String getName() {
+        return email;
+    }
+}
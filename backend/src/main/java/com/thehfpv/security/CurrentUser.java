@@ -0,0 +1,17 @@
+package com.thehfpv.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 인증된 사용자를 컨트롤러 메서드 파라미터로 주입 (AuthenticatedUser 또는 User)
+ * 인증되지 않은 요청이면 null이 주입된다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
@@ -0,0 +1,97 @@
+package com.thehfpv.security;
+
+import com.thehfpv.model.User;
+import com.thehfpv.service.UserCache;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link CurrentUser} 파라미터 리졸버 (AuthenticatedUser 또는 User)
+ * AuthenticatedUser 파라미터는 JwtAuthenticationFilter가 토큰 클레임으로 만든 주체를
+ * 그대로 주입하므로 DB를 거치지 않는다. User 엔티티가 필요한 파라미터와
+ * OAuth2 세션 로그인만 사용자를 한 번 조회하고, 결과를 요청 속성에 담아
+ * 같은 요청 안에서는 다시 조회하지 않는다.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+    
+    private static final String REQUEST_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+    
+    // 조회했지만 사용자가 없었음을 표시 (같은 요청에서 재조회 방지)
+    private static final Object NOT_FOUND = new Object();
+    
+    private final UserCache userCache;
+    
+    public CurrentUserArgumentResolver(UserCache userCache) {
+        this.userCache = userCache;
+    }
+    
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (User.class.isAssignableFrom(parameter.getParameterType())
+                    || AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType()));
+    }
+    
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        
+        boolean wantsEntity = User.class.isAssignableFrom(parameter.getParameterType());
+        Object principal = auth.getPrincipal();
+        
+        // JWT 인증: 토큰 클레임으로 만든 주체
+        if (principal instanceof AuthenticatedUser && !wantsEntity) {
+            return principal;
+        }
+        
+        User user = loadUser(auth, webRequest);
+        if (wantsEntity || user == null) {
+            return user;
+        }
+        return AuthenticatedUser.of(user);
+    }
+    
+    // 현재 사용자 엔티티 (요청당 한 번만 조회)
+    private User loadUser(Authentication auth, NativeWebRequest webRequest) {
+        Object principal = auth.getPrincipal();
+        if (principal instanceof User) {
+            return (User) principal;
+        }
+        
+        Object cached = webRequest.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached == NOT_FOUND ? null : (User) cached;
+        }
+        
+        User user = principal instanceof AuthenticatedUser
+                ? userCache.findById(((AuthenticatedUser) principal).getUserId()).orElse(null)
+                : userCache.findByEmail(emailOf(auth)).orElse(null);
+        webRequest.setAttribute(REQUEST_ATTRIBUTE, user != null ? user : NOT_FOUND, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+    
+    // OAuth2 주체의 이름은 공급자 ID(sub)이므로 email 속성 사용
+    private static String emailOf(Authentication auth) {
+        if (auth.getPrincipal() instanceof OAuth2User) {
+            String email = ((OAuth2User) auth.getPrincipal()).getAttribute("email");
+            if (email != null) {
+                return email;
+            }
+        }
+        return auth.getName();
+    }
+}
@@ -1,6 +1,9 @@
 package com.thehfpv.security;
 
+import com.thehfpv.model.User;
+import com.thehfpv.model.UserRole;
 import com.thehfpv.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,10 +24,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RoleChangeRegistry roleChangeRegistry;
     
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   VerifiedTokenCache verifiedTokenCache, RoleChangeRegistry roleChangeRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.roleChangeRegistry = roleChangeRegistry;
     }
     
     @Override
@@ -36,7 +44,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
         
         // Authorization 헤더가 없거나 Bearer로 시작하지 않으면 다음 필터로
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -48,31 +55,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            // JWT에서 사용자 이메일 추출
-            userEmail = jwtService.extractUsername(jwt);
-            
-            // 사용자 이메일이 있고 인증 컨텍스트가 비어있으면
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // 사용자 정보 로드
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                
-                // 토큰 유효성 검증
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    // 인증 토큰 생성
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    
-                    // 요청 세부 정보 설정
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-                    
-                    // 보안 컨텍스트에 인증 정보 설정
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+            // 인증 컨텍스트가 비어있으면
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 이미 검증된 토큰이면 서명 검증과 사용자 조회 생략
+                AuthenticatedUser principal = verifiedTokenCache.get(jwt);
+                if (principal == null) {
+                    // 서명과 만료를 한 번에 검증 (실패 시 예외)
+                    Claims claims = jwtService.extractAllClaims(jwt);
+                    long resolvedAt = System.currentTimeMillis();
+                    principal = fromClaims(claims);
+                    if (principal != null) {
+                        resolvedAt = claims.getIssuedAt().getTime();
+                    } else {
+                        principal = loadPrincipal(claims);
+                    }
+                    verifiedTokenCache.put(jwt, principal, resolvedAt, claims.getExpiration());
                 }
+                
+                // 인증 토큰 생성
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        principal.getAuthorities()
+                );
+                
+                // 요청 세부 정보 설정
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
+                
+                // 보안 컨텍스트에 인증 정보 설정
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (Exception e) {
             // JWT 파싱 오류 시 로그 출력 (선택사항)
@@ -82,5 +95,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
+    
+    /**
+     * 클레임으로 인증 주체 생성
+     * 사용자 ID/권한 클레임이 없는 이전 토큰이거나, 토큰 발급 이후 권한이 바뀌었으면 null
+     */
+    private AuthenticatedUser fromClaims(Claims claims) {
+        Object userId = claims.get(JwtService.CLAIM_USER_ID);
+        String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+        if (!(userId instanceof Number) || role == null || claims.getIssuedAt() == null) {
+            return null;
+        }
+        Long id = ((Number) userId).longValue();
+        if (roleChangeRegistry.isStale(id, claims.getIssuedAt().getTime())) {
+            return null;
+        }
+        return new AuthenticatedUser(id, claims.getSubject(), UserRole.fromCode(role));
+    }
+    
+    /**
+     * DB(사용자 캐시)에서 현재 권한으로 인증 주체 생성
+     * 사용자가 없으면(삭제됨) UsernameNotFoundException이 발생하여 토큰은 캐시되지 않고 인증도 설정되지 않는다.
+     */
+    private AuthenticatedUser loadPrincipal(Claims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return AuthenticatedUser.of((User) userDetails);
+    }
 }
-
@@ -0,0 +1,51 @@
+package com.thehfpv.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 권한 변경(및 삭제) 시각
+ * 인증 필터는 토큰 클레임의 권한을 그대로 쓰므로, 권한이 바뀌거나 사용자가 삭제된 뒤에도 이전에
+ * 발급된 토큰은 이전 권한을 가진다. 변경 시 여기에 기록하고, 필터는 주체를 만든 시각이 그보다
+ * 이르면 사용자를 다시 조회한다 (삭제된 사용자는 조회에 실패하여 토큰이 거부된다).
+ * 전체 사용자 삭제처럼 대상을 특정할 수 없는 변경은 전체 변경 시각으로 기록한다.
+ * 변경 기록은 메모리에만 있으므로 애플리케이션 시작 이전에 만든 주체도 한 번은 다시 조회한다.
+ */
+@Component
+public class RoleChangeRegistry {
+    
+    private final long startedAt = System.currentTimeMillis();
+    
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    
+    // 모든 사용자에 적용되는 마지막 변경 시각
+    private volatile long allChangedAt;
+    
+    /**
+     * 사용자 권한 변경 기록
+     */
+    public void changed(Long userId) {
+        changedAt.put(userId, System.currentTimeMillis());
+    }
+    
+    /**
+     * 모든 사용자의 변경 기록 (전체 사용자 삭제 등)
+     */
+    public void changedAll() {
+        allChangedAt = System.currentTimeMillis();
+        changedAt.clear();
+    }
+    
+    /**
+     * resolvedAt 시각에 만든 주체의 권한이 이후 바뀌었을 수 있는지 여부
+     */
+    public boolean isStale(Long userId, long resolvedAt) {
+        if (resolvedAt < startedAt || resolvedAt <= allChangedAt) {
+            return true;
+        }
+        Long changed = userId != null ? changedAt.get(userId) : null;
+        return changed != null && resolvedAt <= changed;
+    }
+}
@@ -0,0 +1,92 @@
+package com.thehfpv.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 JWT → 인증 주체 캐시
+ * 항목은 토큰의 만료 시각에 함께 만료되므로, 캐시에 있는 토큰은 다시 검증하지 않아도 된다.
+ * 크기를 제한하여 오래 쓰이지 않은 토큰부터 제거한다.
+ * 주체를 만든 뒤 사용자 권한이 바뀌었으면({@link RoleChangeRegistry}) 항목을 버리고 다시 검증하게 한다.
+ */
+@Component
+public class VerifiedTokenCache {
+    
+    private final Cache<String, Entry> cache;
+    
+    private final RoleChangeRegistry roleChangeRegistry;
+    
+    public VerifiedTokenCache(@Value("${blog.auth.verified-token-cache-size:10000}") long maximumSize,
+                              RoleChangeRegistry roleChangeRegistry) {
+        this.roleChangeRegistry = roleChangeRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String token, Entry entry, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAt - System.currentTimeMillis()));
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, entry, currentTime);
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+    
+    /**
+     * 이미 검증된 토큰의 인증 주체 (없거나 만료되었거나 이후 권한이 바뀌었으면 null)
+     */
+    public AuthenticatedUser get(String token) {
+        Entry entry = cache.getIfPresent(token);
+        if (entry == null) {
+            return null;
+        }
+        if (roleChangeRegistry.isStale(entry.principal.getUserId(), entry.resolvedAt)) {
+            cache.invalidate(token);
+            return null;
+        }
+        return entry.principal;
+    }
+    
+    /**
+     * 검증된 토큰 저장 (만료 시각까지 유지, resolvedAt은 주체의 권한을 확인한 시각)
+     */
+    public void put(String token, AuthenticatedUser principal, long resolvedAt, Date expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        cache.put(token, new Entry(principal, resolvedAt, expiresAt.getTime()));
+    }
+    
+    /**
+     * 전체 무효화 (사용자 전체 삭제 등)
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    private static final class Entry {
+        private final AuthenticatedUser principal;
+        private final long resolvedAt;
+        private final long expiresAt;
+        
+        Entry(AuthenticatedUser principal, long resolvedAt, long expiresAt) {
+            this.principal = principal;
+            this.resolvedAt = resolvedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.thehfpv.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 공개(PUBLISHED) 게시글 상세 read-through 캐시
+ * 게시글 ID 기준으로 크기/TTL 제한이 있는 캐시에 보관하고, slug → ID 보조 인덱스로
+ * slug 조회도 같은 항목을 사용한다. 게시글이 변경되면 evict()로 즉시, 그리고 커밋 후에
+ * 한 번 더 무효화하여 커밋 전에 다시 적재된 이전 값이 남지 않도록 한다.
+ * 캐시 미스 시 읽기 전에 무효화 세대를 기억해 두고, 읽는 동안 무효화가 있었으면 읽은 값을
+ * 적재하지 않는다 (커밋 후 무효화보다 늦게 도착한 이전 값이 TTL 동안 남는 것을 막음).
+ * 캐시된 엔티티는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ */
+@Component
+public class BlogPostCache {
+    
+    private final Cache<Long, BlogPost> byId;
+    private final Cache<String, Long> slugIndex;
+    
+    // 게시글별 무효화 세대와 전체 무효화 횟수 (slug 조회는 읽기 전 게시글 ID를 모르므로 전체 횟수로 확인)
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    public BlogPostCache(@Value("${blog.post-cache.maximum-size:1000}") long maximumSize,
+                         @Value("${blog.post-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.slugIndex = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+        this.byId = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .removalListener((Long postId, BlogPost post, RemovalCause cause) -> {
+                // 교체(REPLACED) 시에는 새 값이 같은 slug를 다시 등록하므로 건드리지 않음
+                if (cause != RemovalCause.REPLACED && post != null && post.getSlug() != null) {
+                    slugIndex.asMap().remove(post.getSlug(), postId);
+                }
+            })
+            .build();
+    }
+    
+    /**
+     * ID로 공개 게시글 조회 (캐시 미스 시 loader로 읽어 PUBLISHED인 경우만 적재)
+     */
+    public Optional<BlogPost> getById(Long postId, Supplier<Optional<BlogPost>> loader) {
+        BlogPost cached = byId.getIfPresent(postId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        long generation = generations.getOrDefault(postId, 0L);
+        Optional<BlogPost> loaded = loader.get().filter(this::isPublished);
+        loaded.ifPresent(post -> putIfCurrent(post, () -> generations.getOrDefault(postId, 0L) == generation));
+        return loaded;
+    }
+    
+    /**
+     * slug로 공개 게시글 조회
+     */
+    public Optional<BlogPost> getBySlug(String slug, Supplier<Optional<BlogPost>> loader) {
+        Long postId = slugIndex.getIfPresent(slug);
+        if (postId != null) {
+            BlogPost cached = byId.getIfPresent(postId);
+            if (cached != null && slug.equals(cached.getSlug())) {
+                return Optional.of(cached);
+            }
+        }
+        
+        long evicted = evictions.get();
+        Optional<BlogPost> loaded = loader.get().filter(this::isPublished);
+        loaded.ifPresent(post -> putIfCurrent(post, () -> evictions.get() == evicted));
+        return loaded;
+    }
+    
+    /**
+     * 게시글 무효화 (즉시 + 현재 트랜잭션 커밋 후)
+     */
+    public void evict(Long postId) {
+        invalidate(postId);
+        TransactionHooks.runAfterCommit(() -> invalidate(postId));
+    }
+    
+    /**
+     * 여러 게시글 무효화
+     */
+    public void evictAll(Iterable<Long> postIds) {
+        for (Long postId : postIds) {
+            evict(postId);
+        }
+    }
+    
+    /**
+     * 캐시 적중/미스/제거 통계
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = byId.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", byId.estimatedSize());
+        result.put("slugIndexSize", slugIndex.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+    
+    // 세대를 먼저 올린 뒤 제거하므로, 이미 읽은 값은 putIfCurrent에서 걸러지거나 여기서 제거된다
+    private void invalidate(Long postId) {
+        generations.merge(postId, 1L, Long::sum);
+        evictions.incrementAndGet();
+        byId.invalidate(postId);
+    }
+    
+    // 읽기 시작 후 무효화가 없었을 때만 적재 (같은 키의 무효화와 원자적으로 처리)
+    private void putIfCurrent(BlogPost post, BooleanSupplier current) {
+        boolean[] stored = new boolean[1];
+        byId.asMap().compute(post.getPostId(), (postId, existing) -> {
+            if (!current.getAsBoolean()) {
+                return existing;
+            }
+            stored[0] = true;
+            return post;
+        });
+        if (stored[0] && post.getSlug() != null) {
+            slugIndex.put(post.getSlug(), post.getPostId());
+        }
+    }
+    
+    private boolean isPublished(BlogPost post) {
+        return "PUBLISHED".equals(post.getStatus());
+    }
+}
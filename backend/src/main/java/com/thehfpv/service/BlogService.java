@@ -1,24 +1,53 @@
 package com.thehfpv.service;
 
 import com.thehfpv.model.BlogPost;
+import com.thehfpv.model.BlogPostSummary;
 import com.thehfpv.model.BlogLike;
 import com.thehfpv.model.User;
 import com.thehfpv.repository.BlogPostRepository;
 import com.thehfpv.repository.BlogLikeRepository;
 import com.thehfpv.repository.UserRepository;
+import com.thehfpv.service.search.FacetIndex;
+import com.thehfpv.service.search.Facets;
+import com.thehfpv.service.search.RelatedPostsEngine;
+import com.thehfpv.service.search.SearchDocument;
+import com.thehfpv.service.search.SearchHit;
+import com.thehfpv.service.search.SearchIndex;
+import com.thehfpv.service.search.SearchResults;
+import com.thehfpv.service.search.SuggestIndex;
+import com.thehfpv.service.search.TagIndex;
+import com.thehfpv.service.search.Suggestion;
+import com.thehfpv.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.UUID;
 
@@ -26,6 +55,17 @@ import java.util.UUID;
 @Transactional
 public class BlogService {
     
+    private static final Logger logger = LoggerFactory.getLogger(BlogService.class);
+    
+    // Maximum length of auto-generated excerpts (blog_posts.excerpt is 500 chars)
+    private static final int EXCERPT_LENGTH = 200;
+    
+    // Generated slugs leave room for a "-N" suffix within blog_posts.slug (255 chars)
+    private static final int MAX_SLUG_BASE_LENGTH = 200;
+    
+    // Attempts at creating or retitling a post when a concurrent write takes the same slug
+    private static final int SLUG_ATTEMPTS = 3;
+    
     @Autowired
     private BlogPostRepository blogPostRepository;
     
@@ -35,15 +75,64 @@ public class BlogService {
     @Autowired
     private UserRepository userRepository;
     
-    // Create a new blog post
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+    
+    @Autowired
+    private BlogPostCache blogPostCache;
+    
+    @Autowired
+    private SearchIndex searchIndex;
+    
+    @Autowired
+    private PostStatusCounters postStatusCounters;
+    
+    @Autowired
+    private SuggestIndex suggestIndex;
+    
+    @Autowired
+    private TagIndex tagIndex;
+    
+    @Autowired
+    private FacetIndex facetIndex;
+    
+    @Autowired
+    private RelatedPostsEngine relatedPostsEngine;
+    
+    @Autowired
+    private TrendingEngine trendingEngine;
+    
+    @Autowired
+    private ScheduledPublisher scheduledPublisher;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    // Create a new blog post. Each attempt runs in its own transaction so that losing a slug race
+    // to a concurrent create (unique constraint on slug) can be retried with a freshly allocated slug.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BlogPost createPost(BlogPost blogPost) {
         // Generate slug if not provided
-        if (blogPost.getSlug() == null || blogPost.getSlug().isEmpty()) {
-            blogPost.setSlug(generateSlug(blogPost.getTitle()));
+        String baseSlug = blogPost.getSlug() == null || blogPost.getSlug().isEmpty()
+            ? generateSlug(blogPost.getTitle())
+            : blogPost.getSlug();
+        
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertPost(blogPost, baseSlug));
+            } catch (DataIntegrityViolationException e) {
+                String slug = blogPost.getSlug();
+                if (attempt >= SLUG_ATTEMPTS || !blogPostRepository.existsBySlug(slug)) {
+                    throw e;
+                }
+                logger.info("Slug '{}' was taken concurrently, retrying (attempt {})", slug, attempt);
+            }
         }
-        
+    }
+    
+    private BlogPost insertPost(BlogPost blogPost, String baseSlug) {
         // Ensure slug is unique
-        blogPost.setSlug(ensureUniqueSlug(blogPost.getSlug()));
+        blogPost.setSlug(allocateSlug(baseSlug, null));
         
         // Set default values
         if (blogPost.getStatus() == null) {
@@ -58,19 +147,46 @@ public class BlogService {
             blogPost.setViewCount(0L);
         }
         
-        return blogPostRepository.save(blogPost);
+        // Derive plain text, word count, reading time, TOC and (when missing) the excerpt once at write time
+        ContentDerivation.apply(blogPost, EXCERPT_LENGTH);
+        
+        BlogPost savedPost = blogPostRepository.save(blogPost);
+        onPostCreated(savedPost);
+        return savedPost;
     }
     
-    // Update an existing blog post
+    // Update an existing blog post. Like createPost, each attempt runs in its own transaction so that
+    // losing the new slug of a retitled post to a concurrent write can be retried with a fresh slug.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BlogPost updatePost(Long postId, BlogPost updatedPost) {
         System.out.println("=== BlogService.updatePost ===");
         System.out.println("Post ID: " + postId);
         System.out.println("Updated Post Status from parameter: " + updatedPost.getStatus());
         
+        for (int attempt = 1; ; attempt++) {
+            String[] slug = new String[1];
+            try {
+                return transactionTemplate.execute(status -> {
+                    BlogPost savedPost = applyUpdate(postId, updatedPost);
+                    slug[0] = savedPost.getSlug();
+                    return savedPost;
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= SLUG_ATTEMPTS || slug[0] == null || !blogPostRepository.existsBySlugAndPostIdNot(slug[0], postId)) {
+                    throw e;
+                }
+                logger.info("Slug '{}' was taken concurrently, retrying (attempt {})", slug[0], attempt);
+            }
+        }
+    }
+    
+    private BlogPost applyUpdate(Long postId, BlogPost updatedPost) {
         BlogPost existingPost = blogPostRepository.findById(postId)
             .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + postId));
         
         System.out.println("Existing Post Status before update: " + existingPost.getStatus());
+        String previousStatus = existingPost.getStatus();
+        String previousTitle = existingPost.getTitle();
         
         // Update fields
         existingPost.setTitle(updatedPost.getTitle());
@@ -83,12 +199,15 @@ public class BlogService {
         existingPost.setExcerpt(updatedPost.getExcerpt());
         existingPost.setFeaturedImageUrl(updatedPost.getFeaturedImageUrl());
         
+        // Re-derive content fields from the new content (excerpt only when none was provided)
+        ContentDerivation.apply(existingPost, EXCERPT_LENGTH);
+        
         System.out.println("Existing Post Status after setStatus: " + existingPost.getStatus());
         
         // Update slug if title changed
-        if (!existingPost.getTitle().equals(updatedPost.getTitle())) {
+        if (!previousTitle.equals(updatedPost.getTitle())) {
             String newSlug = generateSlug(updatedPost.getTitle());
-            existingPost.setSlug(ensureUniqueSlug(newSlug, postId));
+            existingPost.setSlug(allocateSlug(newSlug, postId));
         }
         
         // Set published date if status changed to PUBLISHED
@@ -100,6 +219,8 @@ public class BlogService {
         BlogPost savedPost = blogPostRepository.save(existingPost);
         System.out.println("Saved post status from DB: " + savedPost.getStatus());
         
+        blogPostCache.evict(postId);
+        onPostSaved(savedPost, previousStatus);
         return savedPost;
     }
     
@@ -109,10 +230,17 @@ public class BlogService {
         return blogPostRepository.findById(postId);
     }
     
-    // Get published post by slug
+    // Get published post by ID (public detail view, served from BlogPostCache).
+    // The returned entity is shared between requests and must not be modified.
+    @Transactional(readOnly = true)
+    public Optional<BlogPost> getPublishedPostById(Long postId) {
+        return blogPostCache.getById(postId, () -> blogPostRepository.findById(postId));
+    }
+    
+    // Get published post by slug (served from BlogPostCache)
     @Transactional(readOnly = true)
     public Optional<BlogPost> getPublishedPostBySlug(String slug) {
-        return blogPostRepository.findBySlugAndStatus(slug, "PUBLISHED");
+        return blogPostCache.getBySlug(slug, () -> blogPostRepository.findBySlugAndStatus(slug, "PUBLISHED"));
     }
     
     // Get all published posts
@@ -123,12 +251,11 @@ public class BlogService {
     
     // Get published posts with pagination
     @Transactional(readOnly = true)
-    public Page<BlogPost> getPublishedPosts(int page, int size) {
-        // Use created_at as fallback when published_at is null
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+    public Page<BlogPostSummary> getPublishedPosts(int page, int size) {
+        // Ordered by created_at (fallback when published_at is null); summary columns only
+        Pageable pageable = PageRequest.of(page, size);
         
-        // Get published posts with pagination directly from repository
-        Page<BlogPost> result = blogPostRepository.findByStatusOrderByCreatedAtDesc("PUBLISHED", pageable);
+        Page<BlogPostSummary> result = blogPostRepository.findPublishedSummaries(pageable);
         
         System.out.println("=== DEBUG: Published posts ===");
         System.out.println("Found " + result.getTotalElements() + " total published posts");
@@ -137,11 +264,18 @@ public class BlogService {
         return result;
     }
     
+    // Get the published feed page after the given cursor (keyset, no count query)
+    @Transactional(readOnly = true)
+    public Slice<BlogPostSummary> getPublishedPostsAfter(FeedCursor cursor, int size) {
+        return blogPostRepository.findPublishedSummariesBefore(
+            cursor.getCreatedAt(), cursor.getPostId(), PageRequest.of(0, size));
+    }
+    
     // Get all posts (for ROOT users) with pagination
     @Transactional(readOnly = true)
-    public Page<BlogPost> getAllPostsForAdmin(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPost> result = blogPostRepository.findAll(pageable);
+    public Page<BlogPostSummary> getAllPostsForAdmin(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<BlogPostSummary> result = blogPostRepository.findAllSummaries(pageable);
         
         System.out.println("=== DEBUG: All posts (including DRAFT) ===");
         System.out.println("Found " + result.getTotalElements() + " total posts");
@@ -167,25 +301,31 @@ public class BlogService {
     
     // Get posts by category with pagination
     @Transactional(readOnly = true)
-    public Page<BlogPost> getPostsByCategory(String category, int page, int size) {
-        // Use created_at as fallback when published_at is null
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-
-        // Get posts by category with pagination directly from repository
-        Page<BlogPost> result = blogPostRepository.findByCategoryAndStatusOrderByPublishedAtDesc(category, "PUBLISHED", pageable);
+    public Page<BlogPostSummary> getPostsByCategory(String category, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        
+        // Summary columns only, ordered by (created_at, post_id) like the cursor feed
+        Page<BlogPostSummary> result = blogPostRepository.findPublishedSummariesByCategory(category, pageable);
         
         System.out.println("=== DEBUG: Category posts ===");
         System.out.println("Found " + result.getTotalElements() + " total posts in category: " + category);
         System.out.println("Page content size: " + result.getContent().size());
-
+        
         return result;
     }
     
+    // Get the category feed page after the given cursor (keyset, no count query)
+    @Transactional(readOnly = true)
+    public Slice<BlogPostSummary> getPostsByCategoryAfter(String category, FeedCursor cursor, int size) {
+        return blogPostRepository.findPublishedSummariesByCategoryBefore(
+            category, cursor.getCreatedAt(), cursor.getPostId(), PageRequest.of(0, size));
+    }
+    
     // Get all posts by category (for ROOT users) with pagination
     @Transactional(readOnly = true)
-    public Page<BlogPost> getAllPostsByCategoryForAdmin(String category, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPost> result = blogPostRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+    public Page<BlogPostSummary> getAllPostsByCategoryForAdmin(String category, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<BlogPostSummary> result = blogPostRepository.findSummariesByCategory(category, pageable);
         
         System.out.println("=== DEBUG: All posts in category (including DRAFT) ===");
         System.out.println("Found " + result.getTotalElements() + " total posts in category: " + category);
@@ -219,103 +359,195 @@ public class BlogService {
         return blogPostRepository.searchPublishedPosts(keyword);
     }
     
-    // Search published posts with pagination
+    // Search published posts with pagination, with facets over all matches
     @Transactional(readOnly = true)
-    public Page<BlogPost> searchPublishedPosts(String keyword, int page, int size) {
-        // Use created_at as fallback when published_at is null
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-
-        // Use repository search method with pagination
-        Page<BlogPost> result = blogPostRepository.searchPublishedPosts(keyword, pageable);
+    public SearchResults<Page<BlogPostSummary>> searchPublishedPosts(String keyword, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        
+        // Ranked results from the in-memory index once it has been built
+        if (searchIndex.isReady()) {
+            List<SearchHit> hits = searchIndex.search(keyword, false);
+            return new SearchResults<>(toSummaryPage(hits, pageable), facetsFor(hits));
+        }
+        
+        // Summary columns only (content is matched but not returned)
+        Page<BlogPostSummary> result = blogPostRepository.searchPublishedSummaries(keyword, pageable);
         
         System.out.println("=== DEBUG: Search results ===");
         System.out.println("Found " + result.getTotalElements() + " posts matching keyword: " + keyword);
         System.out.println("Page content size: " + result.getContent().size());
-
-        return result;
+        
+        return new SearchResults<>(result, null);
     }
     
-    // Search all posts (for ROOT users) with pagination
+    // Search published posts, page after the given cursor (keyset, no count query), with facets over all matches
     @Transactional(readOnly = true)
-    public Page<BlogPost> searchAllPostsForAdmin(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPost> result = blogPostRepository.searchAllPosts(keyword, pageable);
+    public SearchResults<Slice<BlogPostSummary>> searchPublishedPostsAfter(String keyword, FeedCursor cursor, int size) {
+        if (searchIndex.isReady()) {
+            // Cursor mode keeps the feed order (newest first) over the index matches
+            List<SearchHit> matches = searchIndex.search(keyword, false);
+            List<SearchHit> hits = matches.stream()
+                .filter(hit -> isBefore(hit, cursor))
+                .sorted(Comparator.comparing((SearchHit hit) -> createdAtOf(hit))
+                    .thenComparing(SearchHit::getPostId).reversed())
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+            boolean hasNext = hits.size() > size;
+            List<Long> postIds = hits.stream()
+                .limit(size)
+                .map(SearchHit::getPostId)
+                .collect(Collectors.toList());
+            return new SearchResults<>(new SliceImpl<>(findSummariesInOrder(postIds), PageRequest.of(0, size), hasNext),
+                facetsFor(matches));
+        }
+        
+        return new SearchResults<>(blogPostRepository.searchPublishedSummariesBefore(
+            keyword, cursor.getCreatedAt(), cursor.getPostId(), PageRequest.of(0, size)), null);
+    }
+    
+    // Search all posts (for ROOT users) with pagination, with facets over the published matches
+    @Transactional(readOnly = true)
+    public SearchResults<Page<BlogPostSummary>> searchAllPostsForAdmin(String keyword, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (searchIndex.isReady()) {
+            List<SearchHit> hits = searchIndex.search(keyword, true);
+            return new SearchResults<>(toSummaryPage(hits, pageable), facetsFor(hits));
+        }
+        
+        Page<BlogPostSummary> result = blogPostRepository.searchAllSummaries(keyword, pageable);
         
         System.out.println("=== DEBUG: Search all posts (including DRAFT) ===");
         System.out.println("Found " + result.getTotalElements() + " posts matching keyword: " + keyword);
         System.out.println("Page content size: " + result.getContent().size());
         
-        return result;
+        return new SearchResults<>(result, null);
+    }
+    
+    // Published posts having all of allTags and at least one of anyTags (newest first)
+    @Transactional(readOnly = true)
+    public Page<BlogPostSummary> getPostsByTags(Collection<String> allTags, Collection<String> anyTags, int page, int size) {
+        List<Long> postIds = tagIndex.findPostIds(allTags, anyTags);
+        Pageable pageable = PageRequest.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), postIds.size());
+        int to = Math.min(from + size, postIds.size());
+        return new PageImpl<>(findSummariesInOrder(postIds.subList(from, to)), pageable, postIds.size());
+    }
+    
+    // Published post counts per category and per tag (in-memory, no query)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Facets getFacets() {
+        return facetIndex.getFacets();
+    }
+    
+    // Autocomplete suggestions (titles, tags, categories) for a search prefix
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, Math.min(limit, SuggestIndex.MAX_SUGGESTIONS));
     }
     
     // Get recent posts
     @Transactional(readOnly = true)
-    public List<BlogPost> getRecentPosts(int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("publishedAt").descending());
-        return blogPostRepository.findRecentPublishedPosts(pageable);
+    public List<BlogPostSummary> getRecentPosts(int limit) {
+        return blogPostRepository.findRecentPublishedSummaries(PageRequest.of(0, limit));
     }
     
     // Get most viewed posts
     @Transactional(readOnly = true)
-    public List<BlogPost> getMostViewedPosts(int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("viewCount").descending());
-        return blogPostRepository.findMostViewedPosts(pageable);
+    public List<BlogPostSummary> getMostViewedPosts(int limit) {
+        return blogPostRepository.findMostViewedSummaries(PageRequest.of(0, limit));
     }
     
-    // Get related posts
+    // Get trending posts for the window (time-decayed views and likes, highest first)
     @Transactional(readOnly = true)
-    public List<BlogPost> getRelatedPosts(String category, Long excludeId, int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("publishedAt").descending());
-        return blogPostRepository.findRelatedPosts(category, excludeId, pageable);
+    public List<BlogPostSummary> getTrendingPosts(TrendingWindow window, int limit) {
+        int capped = Math.min(limit, TrendingEngine.TOP_N);
+        // Ranking may still hold posts unpublished since their last event
+        return findSummariesInOrder(trendingEngine.getTopPostIds(window, TrendingEngine.TOP_N)).stream()
+            .filter(summary -> "PUBLISHED".equals(summary.getStatus()))
+            .limit(capped)
+            .collect(Collectors.toList());
     }
     
-    // Increment view count
+    // Get related posts (precomputed content-similarity neighbours, most similar first)
+    @Transactional(readOnly = true)
+    public List<BlogPostSummary> getRelatedPosts(Long postId, int limit) {
+        int capped = Math.min(limit, RelatedPostsEngine.MAX_NEIGHBOURS);
+        return findSummariesInOrder(relatedPostsEngine.getRelatedPostIds(postId, capped));
+    }
+    
+    // Increment view count (buffered, written to the DB in batches by ViewCountBuffer).
+    // No transaction is opened so a page view does not touch the connection pool.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void incrementViewCount(Long postId) {
-        BlogPost post = blogPostRepository.findById(postId)
-            .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + postId));
-        post.incrementViewCount();
-        blogPostRepository.save(post);
+        viewCountBuffer.increment(postId);
+        trendingEngine.recordView(postId);
+    }
+    
+    // Current view count: persisted value plus views not yet flushed
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getViewCount(BlogPost post) {
+        return getViewCount(post.getPostId(), post.getViewCount());
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getViewCount(Long postId, Long persistedViewCount) {
+        long persisted = persistedViewCount != null ? persistedViewCount : 0L;
+        return persisted + viewCountBuffer.getPendingViews(postId);
     }
     
     // Publish post
     public BlogPost publishPost(Long postId) {
         BlogPost post = blogPostRepository.findById(postId)
             .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + postId));
+        String previousStatus = post.getStatus();
         
         post.setStatus("PUBLISHED");
         if (post.getPublishedAt() == null) {
             post.setPublishedAt(LocalDateTime.now());
         }
         
-        return blogPostRepository.save(post);
+        blogPostCache.evict(postId);
+        BlogPost savedPost = blogPostRepository.save(post);
+        onPostSaved(savedPost, previousStatus);
+        return savedPost;
     }
     
     // Unpublish post (set to draft)
     public BlogPost unpublishPost(Long postId) {
         BlogPost post = blogPostRepository.findById(postId)
             .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + postId));
+        String previousStatus = post.getStatus();
         
         post.setStatus("DRAFT");
-        return blogPostRepository.save(post);
+        blogPostCache.evict(postId);
+        BlogPost savedPost = blogPostRepository.save(post);
+        onPostSaved(savedPost, previousStatus);
+        return savedPost;
     }
     
     // Schedule post
     public BlogPost schedulePost(Long postId, LocalDateTime scheduledAt) {
         BlogPost post = blogPostRepository.findById(postId)
             .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + postId));
+        String previousStatus = post.getStatus();
         
         post.setStatus("SCHEDULED");
         post.setScheduledAt(scheduledAt);
         
-        return blogPostRepository.save(post);
+        blogPostCache.evict(postId);
+        BlogPost savedPost = blogPostRepository.save(post);
+        onPostSaved(savedPost, previousStatus);
+        return savedPost;
     }
     
     // Delete post
     public void deletePost(Long postId) {
-        if (!blogPostRepository.existsById(postId)) {
-            throw new RuntimeException("Blog post not found with id: " + postId);
-        }
-        blogPostRepository.deleteById(postId);
+        BlogPost post = blogPostRepository.findById(postId)
+            .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + postId));
+        blogPostRepository.delete(post);
+        viewCountBuffer.discard(postId);
+        blogPostCache.evict(postId);
+        onPostDeleted(postId, post.getStatus());
     }
     
     // Get scheduled posts that should be published
@@ -326,78 +558,216 @@ public class BlogService {
     
     // Publish scheduled posts
     public List<BlogPost> publishScheduledPosts() {
-        List<BlogPost> scheduledPosts = getScheduledPostsToPublish();
+        return publishScheduled(getScheduledPostsToPublish());
+    }
+    
+    // Publish the given scheduled posts that are due, in one transaction (called by ScheduledPublisher).
+    // Posts that were rescheduled, unscheduled or deleted in the meantime are skipped.
+    public List<BlogPost> publishScheduledPosts(Collection<Long> postIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BlogPost> duePosts = blogPostRepository.findAllById(postIds).stream()
+            .filter(post -> "SCHEDULED".equals(post.getStatus()))
+            .filter(post -> post.getScheduledAt() != null && !post.getScheduledAt().isAfter(now))
+            .collect(Collectors.toList());
+        return publishScheduled(duePosts);
+    }
+    
+    private List<BlogPost> publishScheduled(List<BlogPost> scheduledPosts) {
         for (BlogPost post : scheduledPosts) {
             post.setStatus("PUBLISHED");
             if (post.getPublishedAt() == null) {
                 post.setPublishedAt(LocalDateTime.now());
             }
+            blogPostCache.evict(post.getPostId());
+        }
+        List<BlogPost> savedPosts = blogPostRepository.saveAll(scheduledPosts);
+        for (BlogPost post : savedPosts) {
+            onPostSaved(post, "SCHEDULED");
         }
-        return blogPostRepository.saveAll(scheduledPosts);
+        return savedPosts;
     }
     
-    // Get post statistics
-    @Transactional(readOnly = true)
+    // Get post statistics (served from the in-memory status counters once they are seeded)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTotalPostsCount() {
+        if (postStatusCounters.isReady()) {
+            return postStatusCounters.total();
+        }
         return blogPostRepository.count();
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getPublishedPostsCount() {
-        return blogPostRepository.countByStatus("PUBLISHED");
+        return countByStatus("PUBLISHED");
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getDraftPostsCount() {
-        return blogPostRepository.countByStatus("DRAFT");
+        return countByStatus("DRAFT");
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getScheduledPostsCount() {
-        return blogPostRepository.countByStatus("SCHEDULED");
+        return countByStatus("SCHEDULED");
+    }
+    
+    private long countByStatus(String status) {
+        if (postStatusCounters.isReady()) {
+            return postStatusCounters.get(status);
+        }
+        return blogPostRepository.countByStatus(status);
+    }
+    
+    // Fill in derived content fields (and excerpts) for posts written before they were generated,
+    // so read endpoints never need post content
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDerivedContent() {
+        List<Object[]> missing = blogPostRepository.findPostsMissingDerivedContent();
+        for (Object[] row : missing) {
+            ContentDerivation.Derived derived = ContentDerivation.derive((String) row[1], EXCERPT_LENGTH);
+            String excerpt = (String) row[2];
+            if (excerpt == null || excerpt.isBlank()) {
+                excerpt = derived.getExcerpt();
+            }
+            blogPostRepository.updateDerivedContent((Long) row[0], derived.getPlainText(), derived.getWordCount(),
+                derived.getReadingMinutes(), derived.getToc(), excerpt);
+        }
+        if (!missing.isEmpty()) {
+            logger.info("Backfilled derived content for {} posts", missing.size());
+        }
     }
     
     // Helper methods
+    
+    // Count a newly created post and propagate it like any other save once the transaction commits
+    private void onPostCreated(BlogPost post) {
+        String status = post.getStatus();
+        postStatusCounters.beginTransition();
+        TransactionHooks.runAfterCommit(() -> postStatusCounters.created(status));
+        propagateSavedPost(post);
+    }
+    
+    // Move an updated post between status counters and propagate it once the transaction commits
+    private void onPostSaved(BlogPost post, String previousStatus) {
+        String status = post.getStatus();
+        postStatusCounters.beginTransition();
+        TransactionHooks.runAfterCommit(() -> postStatusCounters.changed(previousStatus, status));
+        propagateSavedPost(post);
+    }
+    
+    // Propagate a saved post to the in-memory indexes and the publish timer once the transaction commits
+    private void propagateSavedPost(BlogPost post) {
+        SearchDocument document = SearchDocument.of(post);
+        Long postId = post.getPostId();
+        LocalDateTime scheduledAt = "SCHEDULED".equals(post.getStatus()) ? post.getScheduledAt() : null;
+        TransactionHooks.runAfterCommit(() -> {
+            if (scheduledAt != null) {
+                scheduledPublisher.schedule(postId, scheduledAt);
+            } else {
+                scheduledPublisher.cancel(postId);
+            }
+            searchIndex.put(document);
+            suggestIndex.put(post);
+            tagIndex.put(post);
+            facetIndex.put(post);
+            relatedPostsEngine.put(post);
+        });
+    }
+    
+    // Remove a deleted post from the in-memory indexes, status counters and the publish timer once the
+    // transaction commits
+    private void onPostDeleted(Long postId, String status) {
+        postStatusCounters.beginTransition();
+        TransactionHooks.runAfterCommit(() -> {
+            postStatusCounters.deleted(status);
+            scheduledPublisher.cancel(postId);
+            searchIndex.remove(postId);
+            suggestIndex.remove(postId);
+            tagIndex.remove(postId);
+            facetIndex.remove(postId);
+            relatedPostsEngine.remove(postId);
+            trendingEngine.remove(postId);
+        });
+    }
+    
+    // Page of summaries for ranked search hits
+    private Page<BlogPostSummary> toSummaryPage(List<SearchHit> hits, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> postIds = hits.subList(from, to).stream()
+            .map(SearchHit::getPostId)
+            .collect(Collectors.toList());
+        return new PageImpl<>(findSummariesInOrder(postIds), pageable, hits.size());
+    }
+    
+    // Category and tag counts over the published posts among the search matches, or null until the facet index is built
+    private Facets facetsFor(List<SearchHit> hits) {
+        if (!facetIndex.isReady()) {
+            return null;
+        }
+        List<Long> postIds = hits.stream()
+            .map(SearchHit::getPostId)
+            .collect(Collectors.toList());
+        return facetIndex.countFor(postIds);
+    }
+    
+    // Summaries for the given ids, in the same order (ids deleted meanwhile are skipped)
+    private List<BlogPostSummary> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, BlogPostSummary> byId = blogPostRepository.findSummariesByPostIdIn(postIds).stream()
+            .collect(Collectors.toMap(BlogPostSummary::getPostId, summary -> summary));
+        return postIds.stream()
+            .map(byId::get)
+            .filter(summary -> summary != null)
+            .collect(Collectors.toList());
+    }
+    
+    private boolean isBefore(SearchHit hit, FeedCursor cursor) {
+        int compare = createdAtOf(hit).compareTo(cursor.getCreatedAt());
+        return compare < 0 || (compare == 0 && hit.getPostId() < cursor.getPostId());
+    }
+    
+    private LocalDateTime createdAtOf(SearchHit hit) {
+        return hit.getCreatedAt() != null ? hit.getCreatedAt() : LocalDateTime.MIN;
+    }
+    
+    // Readable slug from a title: letters of any script (Korean included) and digits, joined by hyphens
     private String generateSlug(String title) {
         if (title == null || title.isEmpty()) {
             return UUID.randomUUID().toString();
         }
         
-        return title.toLowerCase()
-            .replaceAll("[^a-z0-9\\s-]", "")
+        String slug = Normalizer.normalize(title, Normalizer.Form.NFC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{L}\\p{N}\\s-]", "")
+            .trim()
             .replaceAll("\\s+", "-")
             .replaceAll("-+", "-")
-            .trim();
-    }
-    
-    private String ensureUniqueSlug(String slug) {
-        return ensureUniqueSlug(slug, null);
+            .replaceAll("^-|-$", "");
+        if (slug.isEmpty()) {
+            return UUID.randomUUID().toString();
+        }
+        return slug.length() > MAX_SLUG_BASE_LENGTH ? slug.substring(0, MAX_SLUG_BASE_LENGTH) : slug;
     }
     
-    private String ensureUniqueSlug(String slug, Long excludeId) {
-        String originalSlug = slug;
-        int counter = 1;
+    // First free slug among base, base-1, base-2, ... using a single query for the whole family
+    private String allocateSlug(String baseSlug, Long excludeId) {
+        Set<String> taken = new HashSet<>(blogPostRepository.findSlugFamily(baseSlug, excludeId));
+        if (!taken.contains(baseSlug)) {
+            return baseSlug;
+        }
         
-        while (true) {
-            boolean exists;
-            if (excludeId != null) {
-                exists = blogPostRepository.existsBySlugAndPostIdNot(slug, excludeId);
-            } else {
-                exists = blogPostRepository.existsBySlug(slug);
-            }
-            
-            if (!exists) {
-                break;
-            }
-            
-            slug = originalSlug + "-" + counter;
+        int counter = 1;
+        while (taken.contains(baseSlug + "-" + counter)) {
             counter++;
         }
-        
-        return slug;
+        return baseSlug + "-" + counter;
     }
-
-    // Toggle like for a blog post
+    
+    // Toggle like for a blog post. The like row and the post's like_count change in the same
+    // transaction, so a failed insert/delete (e.g. a concurrent duplicate like) rolls back both.
     public boolean toggleLike(Long postId, Long userId) {
         BlogPost post = blogPostRepository.findById(postId)
             .orElseThrow(() -> new RuntimeException("Post not found"));
@@ -410,15 +780,21 @@ public class BlogService {
         if (existingLike.isPresent()) {
             // Unlike: remove existing like
             blogLikeRepository.delete(existingLike.get());
+            blogLikeRepository.flush();
+            blogPostRepository.adjustLikeCount(postId, -1);
+            blogPostCache.evict(postId);
             return false;
         } else {
             // Like: create new like
             BlogLike newLike = new BlogLike(post, user);
-            blogLikeRepository.save(newLike);
+            blogLikeRepository.saveAndFlush(newLike);
+            blogPostRepository.adjustLikeCount(postId, 1);
+            blogPostCache.evict(postId);
+            TransactionHooks.runAfterCommit(() -> trendingEngine.recordLike(postId));
             return true;
         }
     }
-
+    
     // Check if user liked a post
     public boolean isLikedByUser(Long postId, Long userId) {
         BlogPost post = blogPostRepository.findById(postId)
@@ -433,17 +809,31 @@ public class BlogService {
         
         return blogLikeRepository.existsByPostAndUser(post, user);
     }
-
-    // Get like count for a post
+    
+    // Get like count for a post (denormalized column, no aggregate over blog_likes)
+    @Transactional(readOnly = true)
     public int getLikeCount(Long postId) {
-        BlogPost post = blogPostRepository.findById(postId)
-            .orElse(null);
-        
-        if (post == null) {
-            return 0;
+        return blogPostRepository.findLikeCountByPostId(postId)
+            .map(Long::intValue)
+            .orElse(0);
+    }
+    
+    // Get like counts and the user's liked flags for a page of posts in a single query.
+    // userId may be null for anonymous readers.
+    @Transactional(readOnly = true)
+    public Map<Long, LikeSummary> getLikeSummaries(Collection<Long> postIds, Long userId) {
+        Map<Long, LikeSummary> summaries = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return summaries;
         }
         
-        return (int) blogLikeRepository.countByPost(post);
+        for (Object[] row : blogPostRepository.summarizeLikesByPostIds(postIds, userId)) {
+            Long postId = (Long) row[0];
+            long likeCount = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+            boolean liked = row[2] != null && ((Number) row[2]).longValue() > 0;
+            summaries.put(postId, new LikeSummary((int) likeCount, liked));
+        }
+        return summaries;
     }
     
     // Get posts liked by user (for "My Likes" feature)
@@ -463,7 +853,29 @@ public class BlogService {
     }
     
     // Get total published posts count
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getTotalPublishedPostsCount() {
-        return blogPostRepository.countByStatus("PUBLISHED");
+        return countByStatus("PUBLISHED");
+    }
+    
+    // Like count and current user's like status for a single post
+    public static class LikeSummary {
+        public static final LikeSummary NONE = new LikeSummary(0, false);
+        
+        private final int likeCount;
+        private final boolean liked;
+        
+        public LikeSummary(int likeCount, boolean liked) {
+            this.likeCount = likeCount;
+            this.liked = liked;
+        }
+        
+        public int getLikeCount() {
+            return likeCount;
+        }
+        
+        public boolean isLiked() {
+            return liked;
+        }
     }
 }
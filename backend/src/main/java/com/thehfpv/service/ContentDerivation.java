@@ -0,0 +1,161 @@
+package com.thehfpv.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.util.HtmlText;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문(TinyMCE HTML)에서 파생 필드를 저장 시점에 한 번만 계산
+ * 평문, 단어 수, 읽기 시간(분), 목차(h1~h6), 자동 요약문을 만든다.
+ * 읽기 API는 content를 다시 파싱하지 않고 저장된 값을 그대로 사용한다.
+ */
+public final class ContentDerivation {
+    
+    // 분당 읽는 단어(한국어는 어절) 수
+    private static final int WORDS_PER_MINUTE = 200;
+    
+    private static final Pattern HEADING = Pattern.compile("(?is)<h([1-6])(\\s[^>]*)?>(.*?)</h\\1\\s*>");
+    private static final Pattern ID_ATTRIBUTE = Pattern.compile("(?i)\\sid\\s*=\\s*[\"']([^\"']+)[\"']");
+    private static final Pattern ANCHOR_UNSAFE = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Map<String, Object>>> TOC_TYPE = new TypeReference<>() {
+    };
+    
+    private ContentDerivation() {
+    }
+    
+    /**
+     * 게시글의 파생 필드를 content 기준으로 갱신 (요약문은 비어 있을 때만 생성)
+     */
+    public static void apply(BlogPost post, int excerptLength) {
+        Derived derived = derive(post.getContent(), excerptLength);
+        post.setPlainText(derived.getPlainText());
+        post.setWordCount(derived.getWordCount());
+        post.setReadingMinutes(derived.getReadingMinutes());
+        post.setToc(derived.getToc());
+        if (post.getExcerpt() == null || post.getExcerpt().isBlank()) {
+            post.setExcerpt(derived.getExcerpt());
+        }
+    }
+    
+    /**
+     * HTML 본문에서 파생 필드 계산
+     */
+    public static Derived derive(String html, int excerptLength) {
+        String plainText = HtmlText.toPlainText(html);
+        int wordCount = plainText.isEmpty() ? 0 : plainText.split(" ").length;
+        int readingMinutes = Math.max(1, (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+        return new Derived(plainText, wordCount, readingMinutes, buildToc(html),
+            HtmlText.truncate(plainText, excerptLength));
+    }
+    
+    /**
+     * 저장된 목차 JSON을 목록으로 변환 (없거나 손상된 경우 빈 목록)
+     */
+    public static List<Map<String, Object>> parseToc(String toc) {
+        if (toc == null || toc.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(toc, TOC_TYPE);
+        } catch (JsonProcessingException e) {
+            return Collections.emptyList();
+        }
+    }
+    
+    // 제목 태그 순서대로 [{level, text, anchor}] JSON 생성 (anchor는 id 속성이 있으면 그대로 사용)
+    private static String buildToc(String html) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        if (html != null) {
+            Map<String, Integer> usedAnchors = new LinkedHashMap<>();
+            Matcher matcher = HEADING.matcher(html);
+            while (matcher.find()) {
+                String text = HtmlText.toPlainText(matcher.group(3));
+                if (text.isEmpty()) {
+                    continue;
+                }
+                
+                String anchor = null;
+                if (matcher.group(2) != null) {
+                    Matcher id = ID_ATTRIBUTE.matcher(matcher.group(2));
+                    if (id.find()) {
+                        anchor = id.group(1);
+                    }
+                }
+                if (anchor == null) {
+                    anchor = ANCHOR_UNSAFE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("-").replaceAll("^-|-$", "");
+                    if (anchor.isEmpty()) {
+                        anchor = "section";
+                    }
+                    int seen = usedAnchors.merge(anchor, 1, Integer::sum);
+                    if (seen > 1) {
+                        anchor = anchor + "-" + (seen - 1);
+                    }
+                }
+                
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("level", Integer.parseInt(matcher.group(1)));
+                entry.put("text", text);
+                entry.put("anchor", anchor);
+                entries.add(entry);
+            }
+        }
+        
+        try {
+            return OBJECT_MAPPER.writeValueAsString(entries);
+        } catch (JsonProcessingException e) {
+            return "[]";
+        }
+    }
+    
+    /**
+     * 파생 필드 묶음
+     */
+    public static final class Derived {
+        private final String plainText;
+        private final int wordCount;
+        private final int readingMinutes;
+        private final String toc;
+        private final String excerpt;
+        
+        private Derived(String plainText, int wordCount, int readingMinutes, String toc, String excerpt) {
+            this.plainText = plainText;
+            this.wordCount = wordCount;
+            this.readingMinutes = readingMinutes;
+            this.toc = toc;
+            this.excerpt = excerpt;
+        }
+        
+        public String getPlainText() {
+            return plainText;
+        }
+        
+        public int getWordCount() {
+            return wordCount;
+        }
+        
+        public int getReadingMinutes() {
+            return readingMinutes;
+        }
+        
+        public String getToc() {
+            return toc;
+        }
+        
+        public String getExcerpt() {
+            return excerpt;
+        }
+    }
+}
@@ -30,6 +30,9 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     @Autowired
     private com.thehfpv.service.JwtService jwtService;
 
+    @Autowired
+    private UserCache userCache;
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         System.out.println("=== OAuth2UserService.loadUser called ===");
@@ -190,7 +193,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             // 변경사항이 있을 때만 저장
             if (needsUpdate) {
                 System.out.println("Existing user information updated: " + user.getEmail());
-                return userRepository.save(user);
+                return saveAndEvict(user);
             } else {
                 System.out.println("No changes to existing user information: " + user.getEmail());
                 return user;
@@ -207,7 +210,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             user.setEmailVerified(true); // 소셜 로그인은 이메일 인증 완료로 간주
             user.setUpdateDate(LocalDateTime.now());
             System.out.println("Social login info added to existing email user: " + user.getEmail());
-            return userRepository.save(user);
+            return saveAndEvict(user);
         }
 
         // 새 사용자 생성
@@ -234,7 +237,14 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         // 소셜 로그인 사용자는 비밀번호가 없으므로 임시 비밀번호 설정
         newUser.setPassword("SOCIAL_LOGIN_USER");
 
-        return userRepository.save(newUser);
+        return saveAndEvict(newUser);
+    }
+
+    // 사용자 저장 후 캐시된 이전 정보 무효화
+    private User saveAndEvict(User user) {
+        User savedUser = userRepository.save(user);
+        userCache.evict(savedUser);
+        return savedUser;
     }
 
     private String userToJson(User user) {
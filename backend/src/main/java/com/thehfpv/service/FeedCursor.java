@@ -0,0 +1,74 @@
+package com.thehfpv.service;
+
+import com.thehfpv.model.BlogPostSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공개 피드의 keyset 페이지네이션 커서
+ * 마지막으로 받은 게시글의 (createdAt, postId)를 불투명한 문자열로 인코딩하며,
+ * 다음 페이지는 이 위치보다 "오래된" 게시글부터 인덱스를 따라 조회한다.
+ */
+public final class FeedCursor {
+    
+    // 첫 페이지: 모든 게시글보다 뒤에 있는 위치
+    public static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    
+    private static final String SEPARATOR = "|";
+    
+    private final LocalDateTime createdAt;
+    private final Long postId;
+    
+    private FeedCursor(LocalDateTime createdAt, Long postId) {
+        this.createdAt = createdAt;
+        this.postId = postId;
+    }
+    
+    /**
+     * 주어진 게시글 다음 위치를 가리키는 커서
+     */
+    public static FeedCursor after(BlogPostSummary post) {
+        return new FeedCursor(post.getCreatedAt(), post.getPostId());
+    }
+    
+    /**
+     * 커서 문자열 디코딩 (비어 있으면 첫 페이지)
+     */
+    public static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            Long postId = Long.valueOf(raw.substring(separator + 1));
+            return new FeedCursor(createdAt, postId);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+    
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public Long getPostId() {
+        return postId;
+    }
+}
@@ -1,6 +1,9 @@
 package com.thehfpv.service;
 
+import com.thehfpv.model.User;
+import com.thehfpv.model.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -18,33 +21,56 @@ import java.util.function.Function;
 @Service
 public class JwtService {
     
+    // 발급 시점의 사용자 ID와 권한 클레임 (인증 필터가 DB 조회 없이 주체를 만드는 데 사용)
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    
     @Value("${jwt.secret}")
     private String secretKey;
     
     private SecretKey signingKey;
     
+    // 서명 검증 파서 (스레드 안전, 재사용)
+    private JwtParser parser;
+    
     @Value("${jwt.expiration:1800000}") // 30분 (30 * 60 * 1000)
     private long jwtExpiration;
     
+    @Value("${jwt.admin-expiration:1800000}") // ADMIN/ROOT 토큰 (권한 회수가 빨리 반영되도록 짧게)
+    private long adminJwtExpiration;
+    
     @PostConstruct
     public void init() {
         // Use fixed secret key from configuration
         byte[] keyBytes = secretKey.getBytes();
         signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
     
     /**
-     * JWT 토큰 생성
+     * JWT 토큰 생성 (User이면 사용자 ID와 권한 클레임 포함, ADMIN/ROOT는 만료 시간 단축)
      */
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
     
     /**
-     * 추가 클레임과 함께 JWT 토큰 생성
+     * 추가 클레임과 함께 JWT 토큰 생성 (사용자 ID/권한 클레임과 ADMIN/ROOT 만료 시간은 항상 적용)
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        long expiration = jwtExpiration;
+        if (userDetails instanceof User) {
+            User user = (User) userDetails;
+            claims.put(CLAIM_USER_ID, user.getUserId());
+            claims.put(CLAIM_ROLE, user.getUserRole().getCode());
+            if (user.getUserRole() != UserRole.PUBLIC) {
+                expiration = Math.min(jwtExpiration, adminJwtExpiration);
+            }
+        }
+        return buildToken(claims, userDetails, expiration);
     }
     
     /**
@@ -81,13 +107,11 @@ public class JwtService {
     }
     
     /**
-     * 토큰에서 모든 클레임 추출
+     * 토큰을 한 번 파싱하여 서명과 만료를 검증하고 모든 클레임 반환
+     * 서명이 틀리거나 만료된 토큰이면 JwtException 발생
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+    public Claims extractAllClaims(String token) {
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -103,22 +127,7 @@ public class JwtService {
      * 토큰 유효성 검증
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-    
-    /**
-     * 토큰 만료 여부 확인
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
-    /**
-     * 토큰 만료 시간 추출
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 }
-
@@ -0,0 +1,53 @@
+package com.thehfpv.service;
+
+import com.thehfpv.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * blog_posts.like_count 보정 작업
+ * toggleLike가 트랜잭션 안에서 like_count를 증감하지만, 수동 데이터 수정이나
+ * 동시 실행으로 생긴 오차를 blog_likes 기준으로 주기적으로 다시 맞춘다.
+ * post_id 범위 단위로 나눠서 처리하므로 한 번에 큰 잠금을 잡지 않는다.
+ */
+@Component
+public class LikeCountReconciler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LikeCountReconciler.class);
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    @Value("${blog.like-count.reconcile-chunk-size:500}")
+    private long chunkSize;
+    
+    /**
+     * 전체 게시글의 like_count를 청크 단위로 재계산
+     */
+    @Scheduled(initialDelayString = "${blog.like-count.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${blog.like-count.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            long maxPostId = blogPostRepository.findMaxPostId().orElse(0L);
+            int corrected = 0;
+            
+            // 각 청크는 별도 트랜잭션으로 실행됨 (repository 메서드 단위)
+            for (long fromId = 1; fromId <= maxPostId; fromId += chunkSize) {
+                long toId = Math.min(fromId + chunkSize - 1, maxPostId);
+                corrected += blogPostRepository.reconcileLikeCounts(fromId, toId);
+            }
+            
+            if (corrected > 0) {
+                logger.info("Like count reconciliation corrected {} posts (max post id {})", corrected, maxPostId);
+            } else {
+                logger.debug("Like count reconciliation found no drift (max post id {})", maxPostId);
+            }
+        } catch (Exception e) {
+            logger.warn("Like count reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.thehfpv.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 게시글 상세 응답의 직렬화 결과 캐시
+ * 게시글 버전(수정 시각, 좋아요 수, 반영된 조회수)마다 JSON 바이트와 gzip 압축본을 한 번만
+ * 만들어 두고, 같은 버전 요청에는 그대로 내보낸다. 버전이 바뀌면 다음 요청에서 다시 만든다.
+ */
+@Component
+public class PostResponseCache {
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final Cache<Long, Entry> entries;
+    
+    public PostResponseCache(@Value("${blog.post-cache.maximum-size:1000}") long maximumSize,
+                             @Value("${blog.post-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+    
+    /**
+     * 게시글의 해당 버전 응답 (없거나 버전이 다르면 body로 새로 직렬화)
+     */
+    public Entry get(Long postId, String version, Supplier<Object> body) {
+        Entry entry = entries.getIfPresent(postId);
+        if (entry != null && entry.version.equals(version)) {
+            return entry;
+        }
+        
+        Entry created = new Entry(version, serialize(body.get()));
+        entries.put(postId, created);
+        return created;
+    }
+    
+    /**
+     * 캐시 적중/미스/제거 통계
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = entries.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", entries.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+    
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize post response", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * 한 버전의 JSON 바이트와 gzip 압축본
+     */
+    public static final class Entry {
+        private final String version;
+        private final byte[] json;
+        private final byte[] gzip;
+        
+        private Entry(String version, byte[] json) {
+            this.version = version;
+            this.json = json;
+            this.gzip = PostResponseCache.gzip(json);
+        }
+        
+        public byte[] getJson() {
+            return json;
+        }
+        
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.thehfpv.service;
+
+import com.thehfpv.repository.BlogPostRepository;
+import com.thehfpv.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태별 게시글 수 카운터
+ * 시작 시 GROUP BY status 한 번으로 채우고, 이후에는 BlogService의 생성/수정/발행/삭제
+ * 커밋 후 상태 전이(이전 상태 → 새 상태)로 갱신한다. 통계 조회는 DB를 거치지 않는다.
+ * 주기적으로 다시 집계해 어긋난 값이 있으면 교체한다. 집계 도중 전이가 있었거나
+ * 커밋 전에 예고된 전이(beginTransition)가 아직 끝나지 않았다면 그 회차는 건너뛰고 다음 주기에 다시 확인한다.
+ * (커밋은 되었지만 커밋 후 반영 전인 전이를 집계가 이미 세었다면 같은 변화가 두 번 반영되기 때문)
+ */
+@Component
+public class PostStatusCounters {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PostStatusCounters.class);
+    
+    // 시작 시 집계 도중 전이가 겹칠 때 다시 시도하는 횟수
+    private static final int SEED_ATTEMPTS = 3;
+    
+    // status가 비어 있는 게시글의 키
+    private static final String NO_STATUS = "";
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    private final Map<String, Long> counts = new HashMap<>();
+    
+    // 상태 전이(예고/종료 포함)마다 증가, 집계와 전이가 겹쳤는지 판단하는 데 사용
+    private long version;
+    
+    // 예고되었지만 트랜잭션이 아직 끝나지 않은 전이 수
+    private int pending;
+    
+    private volatile boolean ready;
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 상태별 게시글 수
+     */
+    public synchronized long get(String status) {
+        return counts.getOrDefault(key(status), 0L);
+    }
+    
+    /**
+     * 전체 게시글 수
+     */
+    public synchronized long total() {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+    
+    /**
+     * 현재 트랜잭션에서 일어날 상태 전이 예고 (커밋 전에 호출, 트랜잭션이 끝나면 해제)
+     */
+    public void beginTransition() {
+        synchronized (this) {
+            pending++;
+            version++;
+        }
+        TransactionHooks.runAfterCompletion(() -> {
+            synchronized (this) {
+                pending--;
+                version++;
+            }
+        });
+    }
+    
+    /**
+     * 생성된 게시글 반영 (커밋 후)
+     */
+    public synchronized void created(String status) {
+        counts.merge(key(status), 1L, Long::sum);
+        version++;
+    }
+    
+    /**
+     * 상태 전이 반영 (커밋 후)
+     */
+    public synchronized void changed(String previousStatus, String newStatus) {
+        if (key(previousStatus).equals(key(newStatus))) {
+            return;
+        }
+        counts.merge(key(previousStatus), -1L, Long::sum);
+        counts.merge(key(newStatus), 1L, Long::sum);
+        version++;
+    }
+    
+    /**
+     * 삭제된 게시글 반영 (커밋 후)
+     */
+    public synchronized void deleted(String status) {
+        counts.merge(key(status), -1L, Long::sum);
+        version++;
+    }
+    
+    /**
+     * 시작 시 초기 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            if (recount(attempt == SEED_ATTEMPTS)) {
+                ready = true;
+                logger.info("Post status counters seeded: {}", snapshot());
+                return;
+            }
+        }
+        logger.warn("Post status counters not seeded, stats fall back to count queries");
+    }
+    
+    /**
+     * 주기적 재검증 (초기 집계에 실패했으면 다시 시도)
+     */
+    @Scheduled(initialDelayString = "${blog.status-counters.verify-interval-ms:600000}",
+               fixedDelayString = "${blog.status-counters.verify-interval-ms:600000}")
+    public void verify() {
+        if (!ready) {
+            seed();
+            return;
+        }
+        recount(false);
+    }
+    
+    public synchronized Map<String, Long> snapshot() {
+        return new HashMap<>(counts);
+    }
+    
+    // DB 집계로 교체, 집계 도중 전이가 있었으면 force가 아닌 한 교체하지 않음
+    private boolean recount(boolean force) {
+        long versionBefore;
+        synchronized (this) {
+            versionBefore = version;
+        }
+        List<Object[]> rows;
+        try {
+            rows = blogPostRepository.countGroupedByStatus();
+        } catch (Exception e) {
+            logger.warn("Failed to count posts by status: {}", e.getMessage());
+            return false;
+        }
+        Map<String, Long> loaded = new HashMap<>();
+        for (Object[] row : rows) {
+            loaded.merge(key((String) row[0]), ((Number) row[1]).longValue(), Long::sum);
+        }
+        synchronized (this) {
+            if (!force && (version != versionBefore || pending > 0)) {
+                return false;
+            }
+            if (ready && !loaded.equals(withoutZeros(counts))) {
+                logger.warn("Post status counters drifted, corrected {} -> {}", withoutZeros(counts), loaded);
+            }
+            counts.clear();
+            counts.putAll(loaded);
+            return true;
+        }
+    }
+    
+    private static Map<String, Long> withoutZeros(Map<String, Long> source) {
+        Map<String, Long> result = new HashMap<>();
+        source.forEach((status, count) -> {
+            if (count != 0) {
+                result.put(status, count);
+            }
+        });
+        return result;
+    }
+    
+    private static String key(String status) {
+        return status == null ? NO_STATUS : status;
+    }
+}
@@ -0,0 +1,53 @@
+package com.thehfpv.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * 방문자 집계 단위
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY,
+    MONTH;
+    
+    /**
+     * 시각이 속한 구간의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        switch (this) {
+            case HOUR:
+                return time.truncatedTo(ChronoUnit.HOURS);
+            case DAY:
+                return time.truncatedTo(ChronoUnit.DAYS);
+            default:
+                return time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        }
+    }
+    
+    /**
+     * 다음 구간의 시작 시각
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        switch (this) {
+            case HOUR:
+                return bucketStart.plusHours(1);
+            case DAY:
+                return bucketStart.plusDays(1);
+            default:
+                return bucketStart.plusMonths(1);
+        }
+    }
+    
+    /**
+     * 요청 파라미터(hour/day/month)를 집계 단위로 변환
+     */
+    public static RollupGranularity fromParam(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid granularity: " + value + " (expected hour, day or month)");
+        }
+    }
+}
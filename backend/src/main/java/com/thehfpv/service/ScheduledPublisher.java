@@ -0,0 +1,183 @@
+package com.thehfpv.service;
+
+import com.thehfpv.repository.BlogPostRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 게시 타이머
+ * SCHEDULED 게시글의 scheduledAt을 시간순 타임라인에 올려 두고, 가장 이른 시각에 맞춰
+ * 단일 타이머만 걸어 둔다(테이블 폴링 없음). 타이머가 울리면 그 시각까지 도래한 게시글을
+ * 한 트랜잭션으로 게시한 뒤 다음 시각으로 다시 건다.
+ * 시작 시 DB에서 예약 게시글을 읽어 복원하며, 이미 지난 예약은 바로 게시한다.
+ */
+@Component
+public class ScheduledPublisher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledPublisher.class);
+    
+    // 게시 실패 시 재시도 간격
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    // BlogService가 예약 변경을 알리기 위해 이 컴포넌트를 참조하므로 지연 주입
+    @Autowired
+    @Lazy
+    private BlogService blogService;
+    
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduled-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // 게시 시각 → 게시글 ID, 게시글 ID → 게시 시각 (this로 동기화)
+    private final NavigableMap<LocalDateTime, Set<Long>> timeline = new TreeMap<>();
+    private final Map<Long, LocalDateTime> scheduled = new HashMap<>();
+    
+    private ScheduledFuture<?> nextFire;
+    private LocalDateTime nextFireAt;
+    
+    /**
+     * 시작 시 예약 게시글 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<Object[]> rows = blogPostRepository.findScheduledRows();
+        synchronized (this) {
+            for (Object[] row : rows) {
+                add((Long) row[0], (LocalDateTime) row[1]);
+            }
+            arm();
+        }
+        logger.info("Restored {} scheduled posts", rows.size());
+    }
+    
+    /**
+     * 게시글 예약 등록 또는 예약 시각 변경
+     */
+    public synchronized void schedule(Long postId, LocalDateTime scheduledAt) {
+        removeInternal(postId);
+        add(postId, scheduledAt);
+        arm();
+    }
+    
+    /**
+     * 예약 취소 (게시, 초안 전환, 삭제 시)
+     */
+    public synchronized void cancel(Long postId) {
+        if (removeInternal(postId)) {
+            arm();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+    
+    // 타이머 스레드: 도래한 게시글을 한 번에 게시
+    private void fire() {
+        List<Long> due = new ArrayList<>();
+        synchronized (this) {
+            nextFire = null;
+            nextFireAt = null;
+            NavigableMap<LocalDateTime, Set<Long>> expired = timeline.headMap(LocalDateTime.now(), true);
+            for (Set<Long> postIds : expired.values()) {
+                due.addAll(postIds);
+            }
+            expired.clear();
+            for (Long postId : due) {
+                scheduled.remove(postId);
+            }
+        }
+        
+        if (!due.isEmpty()) {
+            try {
+                int published = blogService.publishScheduledPosts(due).size();
+                logger.info("Published {} scheduled posts", published);
+            } catch (Exception e) {
+                logger.warn("Scheduled publish failed for {}, retrying in {}s: {}",
+                    due, RETRY_DELAY.getSeconds(), e.getMessage());
+                synchronized (this) {
+                    LocalDateTime retryAt = LocalDateTime.now().plus(RETRY_DELAY);
+                    for (Long postId : due) {
+                        if (!scheduled.containsKey(postId)) {
+                            add(postId, retryAt);
+                        }
+                    }
+                }
+            }
+        }
+        
+        synchronized (this) {
+            arm();
+        }
+    }
+    
+    // 가장 이른 예약 시각으로 타이머 재설정 (호출 측이 동기화)
+    private void arm() {
+        if (timeline.isEmpty()) {
+            if (nextFire != null) {
+                nextFire.cancel(false);
+                nextFire = null;
+                nextFireAt = null;
+            }
+            return;
+        }
+        
+        LocalDateTime earliest = timeline.firstKey();
+        if (nextFire != null && earliest.equals(nextFireAt)) {
+            return;
+        }
+        if (nextFire != null) {
+            nextFire.cancel(false);
+        }
+        long delayMillis = Math.max(Duration.between(LocalDateTime.now(), earliest).toMillis(), 0);
+        nextFire = timer.schedule(this::fire, delayMillis, TimeUnit.MILLISECONDS);
+        nextFireAt = earliest;
+    }
+    
+    private void add(Long postId, LocalDateTime scheduledAt) {
+        timeline.computeIfAbsent(scheduledAt, at -> new LinkedHashSet<>()).add(postId);
+        scheduled.put(postId, scheduledAt);
+    }
+    
+    private boolean removeInternal(Long postId) {
+        LocalDateTime previous = scheduled.remove(postId);
+        if (previous == null) {
+            return false;
+        }
+        Set<Long> postIds = timeline.get(previous);
+        if (postIds != null) {
+            postIds.remove(postId);
+            if (postIds.isEmpty()) {
+                timeline.remove(previous);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,275 @@
+package com.thehfpv.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시간 감쇠 트렌딩 순위
+ * 조회(1점)와 좋아요(5점) 이벤트를 forward decay 방식으로 누적한다. 이벤트 점수에
+ * exp(λ·(t - 기준시각))를 곱해 더해 두면 모든 게시글이 같은 비율로 감쇠하므로
+ * 저장된 값의 대소가 곧 현재 감쇠 점수의 대소이다. 기간(TrendingWindow)마다 상위 N개를
+ * 정렬된 집합으로 유지하고, 조회 시 미리 만들어 둔 ID 목록을 그대로 반환한다.
+ * 주기적으로 trending_scores 테이블에 스냅샷을 남겨 재시작 후에도 순위를 이어간다.
+ */
+@Component
+public class TrendingEngine {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TrendingEngine.class);
+    
+    // 기간별로 유지하는 상위 게시글 수
+    public static final int TOP_N = 100;
+    
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 5.0;
+    
+    // 이보다 작게 감쇠한 점수는 스냅샷 때 버림
+    private static final double MIN_SCORE = 0.01;
+    
+    // 지수가 이 값을 넘으면 기준시각을 현재로 옮겨 double 범위를 유지
+    private static final double MAX_EXPONENT = 500;
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO trending_scores (post_id, trending_window, score, snapshot_at) VALUES (?, ?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private final Map<TrendingWindow, WindowState> windows = new EnumMap<>(TrendingWindow.class);
+    
+    public TrendingEngine() {
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new WindowState(window));
+        }
+    }
+    
+    public void recordView(Long postId) {
+        record(postId, VIEW_WEIGHT);
+    }
+    
+    public void recordLike(Long postId) {
+        record(postId, LIKE_WEIGHT);
+    }
+    
+    /**
+     * 삭제된 게시글 제거
+     */
+    public void remove(Long postId) {
+        for (WindowState state : windows.values()) {
+            state.remove(postId);
+        }
+    }
+    
+    /**
+     * 기간별 트렌딩 게시글 ID (점수 내림차순, 최대 limit개)
+     */
+    public List<Long> getTopPostIds(TrendingWindow window, int limit) {
+        List<Long> ranking = windows.get(window).getRanking();
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+    
+    /**
+     * 시작 시 마지막 스냅샷 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            double now = nowSeconds();
+            int[] restored = {0};
+            // DATETIME은 드라이버에 따라 getObject가 LocalDateTime을 돌려주므로 타입을 지정해 읽음
+            jdbcTemplate.query(
+                "SELECT post_id, trending_window, score, snapshot_at FROM trending_scores",
+                rs -> {
+                    TrendingWindow window;
+                    try {
+                        window = TrendingWindow.valueOf(rs.getString("trending_window"));
+                    } catch (IllegalArgumentException | NullPointerException e) {
+                        return;
+                    }
+                    double snapshotAt = rs.getTimestamp("snapshot_at").getTime() / 1000.0;
+                    double age = Math.max(now - snapshotAt, 0);
+                    WindowState state = windows.get(window);
+                    double decayed = rs.getDouble("score") * Math.exp(-state.lambda * age);
+                    state.add(rs.getLong("post_id"), decayed, now);
+                    restored[0]++;
+                });
+            logger.info("Restored {} trending scores", restored[0]);
+        } catch (Exception e) {
+            logger.warn("Trending snapshot restore failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 현재 감쇠 점수를 trending_scores에 저장 (테이블 전체 교체)
+     */
+    @Scheduled(initialDelayString = "${blog.trending.snapshot-interval-ms:300000}",
+               fixedDelayString = "${blog.trending.snapshot-interval-ms:300000}")
+    public synchronized void snapshot() {
+        double now = nowSeconds();
+        Timestamp snapshotAt = new Timestamp((long) (now * 1000));
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<TrendingWindow, WindowState> entry : windows.entrySet()) {
+            for (Map.Entry<Long, Double> score : entry.getValue().decayedScores(now).entrySet()) {
+                rows.add(new Object[]{score.getKey(), entry.getKey().name(), score.getValue(), snapshotAt});
+            }
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM trending_scores");
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                }
+            });
+            logger.debug("Saved {} trending scores", rows.size());
+        } catch (Exception e) {
+            logger.warn("Trending snapshot failed: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void drain() {
+        snapshot();
+    }
+    
+    private void record(Long postId, double weight) {
+        double now = nowSeconds();
+        for (WindowState state : windows.values()) {
+            state.add(postId, weight, now);
+        }
+    }
+    
+    private static double nowSeconds() {
+        return System.currentTimeMillis() / 1000.0;
+    }
+    
+    // 기간 하나의 점수와 상위 N 집합
+    private static final class WindowState {
+        
+        private static final Comparator<Ranked> ORDER = Comparator.comparingDouble((Ranked r) -> r.score).reversed()
+            .thenComparing(r -> r.postId, Comparator.reverseOrder());
+        
+        private final double lambda;
+        private double landmark = nowSeconds();
+        
+        // 게시글 ID → forward 점수 (기준시각 기준)
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final TreeSet<Ranked> top = new TreeSet<>(ORDER);
+        private final Map<Long, Ranked> topEntries = new HashMap<>();
+        
+        private volatile List<Long> ranking = Collections.emptyList();
+        private volatile boolean dirty;
+        
+        WindowState(TrendingWindow window) {
+            this.lambda = Math.log(2) / window.getHalfLife().getSeconds();
+        }
+        
+        synchronized void add(Long postId, double weight, double now) {
+            if (lambda * (now - landmark) > MAX_EXPONENT) {
+                rescale(now);
+            }
+            double score = scores.merge(postId, weight * Math.exp(lambda * (now - landmark)), Double::sum);
+            
+            Ranked previous = topEntries.remove(postId);
+            if (previous != null) {
+                top.remove(previous);
+            }
+            if (top.size() < TOP_N || score > top.last().score) {
+                Ranked ranked = new Ranked(postId, score);
+                top.add(ranked);
+                topEntries.put(postId, ranked);
+                if (top.size() > TOP_N) {
+                    topEntries.remove(top.pollLast().postId);
+                }
+                dirty = true;
+            }
+        }
+        
+        synchronized void remove(Long postId) {
+            scores.remove(postId);
+            Ranked previous = topEntries.remove(postId);
+            if (previous != null) {
+                top.remove(previous);
+                dirty = true;
+            }
+        }
+        
+        List<Long> getRanking() {
+            if (dirty) {
+                synchronized (this) {
+                    if (dirty) {
+                        List<Long> ids = new ArrayList<>(top.size());
+                        for (Ranked ranked : top) {
+                            ids.add(ranked.postId);
+                        }
+                        ranking = Collections.unmodifiableList(ids);
+                        dirty = false;
+                    }
+                }
+            }
+            return ranking;
+        }
+        
+        // 현재 시각 기준 감쇠 점수 (작아진 점수는 정리)
+        synchronized Map<Long, Double> decayedScores(double now) {
+            double factor = Math.exp(-lambda * (now - landmark));
+            Map<Long, Double> decayed = new HashMap<>();
+            scores.entrySet().removeIf(entry -> {
+                double value = entry.getValue() * factor;
+                if (value < MIN_SCORE && !topEntries.containsKey(entry.getKey())) {
+                    return true;
+                }
+                decayed.put(entry.getKey(), value);
+                return false;
+            });
+            return decayed;
+        }
+        
+        // 기준시각을 now로 옮기고 저장된 점수를 같은 비율로 축소
+        private void rescale(double now) {
+            double factor = Math.exp(-lambda * (now - landmark));
+            scores.replaceAll((postId, score) -> score * factor);
+            List<Ranked> rescaled = new ArrayList<>();
+            for (Ranked ranked : top) {
+                rescaled.add(new Ranked(ranked.postId, ranked.score * factor));
+            }
+            top.clear();
+            topEntries.clear();
+            for (Ranked ranked : rescaled) {
+                top.add(ranked);
+                topEntries.put(ranked.postId, ranked);
+            }
+            landmark = now;
+        }
+    }
+    
+    private static final class Ranked {
+        private final Long postId;
+        private final double score;
+        
+        Ranked(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
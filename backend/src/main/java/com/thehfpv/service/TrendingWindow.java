@@ -0,0 +1,34 @@
+package com.thehfpv.service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 트렌딩 기간 (기간이 길수록 감쇠 반감기가 길다)
+ */
+public enum TrendingWindow {
+    DAY(Duration.ofHours(6)),
+    WEEK(Duration.ofDays(2)),
+    MONTH(Duration.ofDays(7));
+    
+    private final Duration halfLife;
+    
+    TrendingWindow(Duration halfLife) {
+        this.halfLife = halfLife;
+    }
+    
+    public Duration getHalfLife() {
+        return halfLife;
+    }
+    
+    /**
+     * 요청 파라미터(day/week/month)를 기간으로 변환
+     */
+    public static TrendingWindow fromParam(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid window: " + value + " (expected day, week or month)");
+        }
+    }
+}
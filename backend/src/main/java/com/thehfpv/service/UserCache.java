@@ -0,0 +1,134 @@
+package com.thehfpv.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.thehfpv.model.User;
+import com.thehfpv.repository.UserRepository;
+import com.thehfpv.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 read-through 캐시 (이메일, ID)
+ * UserRepository.findByEmail/findById 앞에 크기/TTL 제한이 있는 캐시를 둔다.
+ * 존재하는 사용자만 보관하며, 프로필 수정/권한 변경/소셜 로그인 갱신 시 evict()로
+ * 즉시, 그리고 커밋 후에 한 번 더 무효화한다.
+ * 캐시된 엔티티는 여러 요청이 공유하므로 수정이 필요하면 저장소에서 새로 읽어야 한다.
+ */
+@Component
+public class UserCache {
+    
+    private final UserRepository userRepository;
+    
+    private final Cache<String, User> byEmail;
+    private final Cache<Long, User> byId;
+    
+    public UserCache(UserRepository userRepository,
+                     @Value("${blog.user-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${blog.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.byEmail = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        this.byId = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+    
+    /**
+     * 이메일로 사용자 조회 (캐시 미스 시 DB 조회 후 적재)
+     */
+    public Optional<User> findByEmail(String email) {
+        User cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        Optional<User> loaded = userRepository.findByEmail(email);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+    
+    /**
+     * ID로 사용자 조회 (캐시 미스 시 DB 조회 후 적재)
+     */
+    public Optional<User> findById(Long userId) {
+        User cached = byId.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        Optional<User> loaded = userRepository.findById(userId);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+    
+    /**
+     * 사용자 무효화 (즉시 + 현재 트랜잭션 커밋 후)
+     */
+    public void evict(Long userId, String email) {
+        invalidate(userId, email);
+        TransactionHooks.runAfterCommit(() -> invalidate(userId, email));
+    }
+    
+    public void evict(User user) {
+        evict(user.getUserId(), user.getEmail());
+    }
+    
+    /**
+     * 전체 무효화
+     */
+    public void evictAll() {
+        byEmail.invalidateAll();
+        byId.invalidateAll();
+    }
+    
+    /**
+     * 캐시 적중/미스/제거 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("byEmail", toStats(byEmail));
+        result.put("byId", toStats(byId));
+        return result;
+    }
+    
+    private void put(User user) {
+        if (user.getEmail() != null) {
+            byEmail.put(user.getEmail(), user);
+        }
+        if (user.getUserId() != null) {
+            byId.put(user.getUserId(), user);
+        }
+    }
+    
+    private void invalidate(Long userId, String email) {
+        if (userId != null) {
+            byId.invalidate(userId);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+    
+    private static Map<String, Object> toStats(Cache<?, User> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+}
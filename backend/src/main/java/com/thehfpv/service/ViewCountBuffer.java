@@ -0,0 +1,113 @@
+package com.thehfpv.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 조회마다 게시글 엔티티를 읽고 저장하는 대신 메모리의 LongAdder(스트라이프 카운터)에
+ * 누적하고, 주기적으로 "view_count = view_count + ?" 배치 UPDATE로 반영한다.
+ * 종료 시 남은 증가분을 모두 반영한다.
+ */
+@Component
+public class ViewCountBuffer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountBuffer.class);
+    
+    private static final String FLUSH_SQL =
+        "UPDATE blog_posts SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private BlogPostCache blogPostCache;
+    
+    // 아직 DB에 반영되지 않은 증가분 (게시글 수만큼만 키가 생김)
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    
+    // 현재 flush 중인 증가분 (flush 도중 조회해도 값이 줄어들지 않도록)
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+    
+    /**
+     * DB에 아직 반영되지 않은 조회수
+     */
+    public long getPendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        long buffered = adder != null ? adder.sum() : 0L;
+        return buffered + inFlight.getOrDefault(postId, 0L);
+    }
+    
+    /**
+     * 삭제된 게시글의 버퍼 제거
+     */
+    public void discard(Long postId) {
+        pending.remove(postId);
+    }
+    
+    /**
+     * 누적된 증가분을 배치 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                inFlight.merge(entry.getKey(), delta, Long::sum);
+                batch.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+        
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            logger.debug("Flushed view counts for {} posts", batch.size());
+            // 캐시된 게시글의 view_count가 반영된 값보다 뒤처지지 않도록 무효화
+            for (Object[] row : batch) {
+                blogPostCache.evict((Long) row[1]);
+            }
+        } catch (Exception e) {
+            // 실패한 증가분은 다음 flush에서 다시 시도
+            logger.warn("View count flush failed, re-queueing {} posts: {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                increment((Long) row[1], (Long) row[0]);
+            }
+        } finally {
+            inFlight.clear();
+        }
+    }
+    
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+    
+    private void increment(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+}
@@ -0,0 +1,247 @@
+package com.thehfpv.service;
+
+import com.thehfpv.model.DailyStats;
+import com.thehfpv.repository.DailyStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 오늘/전체 고유 방문자 수 메모리 카운터
+ * 오늘 방문자 수는 VisitorTracker의 오늘 집합 크기를 그대로 쓰고,
+ * 전체 방문자는 IPv4 주소를 32비트 정수로 압축 비트맵(Roaring)에, 그 밖의 주소(IPv6 등)는
+ * 64비트 해시를 Roaring64에 모으고, 처음 보는 값일 때만 카운터를 1 올린다.
+ * 새 방문자가 기록될 때 recorded()로 갱신되므로 조회 시 DB를 거치지 않는다.
+ * 시작 시 visitor_stats의 IP로 한 번 채우고, 주기적으로 daily_stats에 (그날의 방문자 스케치와 함께) 저장한다.
+ * 종료 시에는 남은 방문을 기록한 뒤 마지막 주기 이후의 값을 한 번 더 저장한다.
+ */
+@Component
+public class VisitorCounters {
+    
+    private static final Logger logger = LoggerFactory.getLogger(VisitorCounters.class);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private DailyStatsRepository dailyStatsRepository;
+    
+    @Autowired
+    private VisitorTracker visitorTracker;
+    
+    @Autowired
+    private VisitorSketches visitorSketches;
+    
+    // 전체 기간 방문자 IPv4 주소 / 그 밖의 주소 해시 (접근 시 this로 동기화)
+    private final RoaringBitmap allTimeIpv4 = new RoaringBitmap();
+    private final Roaring64Bitmap allTimeOther = new Roaring64Bitmap();
+    
+    private volatile long totalVisitors;
+    
+    private volatile boolean ready = false;
+    
+    // 마지막으로 daily_stats에 저장한 값 (persistLock으로 보호, DB 저장 중에도 recorded()가 기다리지 않도록 별도 잠금)
+    private final Object persistLock = new Object();
+    private LocalDate persistedDate;
+    private long persistedToday = -1;
+    private long persistedTotal = -1;
+    
+    /**
+     * 시작 시 전체 방문자 IP 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            RoaringBitmap loadedIpv4 = new RoaringBitmap();
+            Roaring64Bitmap loadedOther = new Roaring64Bitmap();
+            jdbcTemplate.query("SELECT DISTINCT visitor_ip FROM visitor_stats",
+                rs -> {
+                    String ip = rs.getString(1);
+                    long ipv4 = ipv4(ip);
+                    if (ipv4 >= 0) {
+                        loadedIpv4.add((int) ipv4);
+                    } else {
+                        loadedOther.addLong(hashIp(ip));
+                    }
+                });
+            
+            // 적재 중 기록된 방문자와 합침 (크기 계산은 적재 시 한 번만)
+            synchronized (this) {
+                allTimeIpv4.or(loadedIpv4);
+                allTimeOther.or(loadedOther);
+                totalVisitors = allTimeIpv4.getLongCardinality() + allTimeOther.getLongCardinality();
+            }
+            ready = true;
+            logger.info("Visitor counters loaded: {} total visitors", totalVisitors);
+        } catch (Exception e) {
+            logger.error("Visitor counters load failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 오늘 처음 기록된 방문자 반영
+     */
+    public void recorded(String visitorIp) {
+        long ipv4 = ipv4(visitorIp);
+        if (ipv4 >= 0) {
+            synchronized (this) {
+                if (allTimeIpv4.checkedAdd((int) ipv4)) {
+                    totalVisitors++;
+                }
+            }
+            return;
+        }
+        
+        long hash = hashIp(visitorIp);
+        synchronized (this) {
+            if (!allTimeOther.contains(hash)) {
+                allTimeOther.addLong(hash);
+                totalVisitors++;
+            }
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public long getTodayVisitors() {
+        return Math.max(0, visitorTracker.countFor(LocalDate.now()));
+    }
+    
+    public long getTotalVisitors() {
+        return totalVisitors;
+    }
+    
+    /**
+     * 오늘(및 자정 직후라면 전날 최종값) 카운터를 daily_stats에 저장
+     */
+    @Scheduled(fixedDelayString = "${blog.visitor.stats-persist-interval-ms:60000}")
+    public void persist() {
+        if (!ready) {
+            return;
+        }
+        synchronized (persistLock) {
+            persistCounters();
+        }
+    }
+    
+    /**
+     * 애플리케이션 종료 시 남은 방문을 기록한 뒤 마지막 카운터 저장
+     * (VisitorTracker에 의존하므로 트래커보다 먼저 종료된다)
+     */
+    @PreDestroy
+    public void shutdown() {
+        visitorTracker.drain();
+        persist();
+    }
+    
+    private void persistCounters() {
+        try {
+            LocalDate today = LocalDate.now();
+            long total = totalVisitors;
+            
+            // 날짜가 바뀌었으면 전날 값을 마지막으로 한 번 더 저장
+            if (persistedDate != null && persistedDate.isBefore(today)) {
+                long previousCount = visitorTracker.countFor(persistedDate);
+                if (previousCount >= 0 && previousCount != persistedToday) {
+                    save(persistedDate, previousCount, persistedTotal);
+                }
+                persistedToday = -1;
+            }
+            
+            long todayCount = visitorTracker.countFor(today);
+            if (todayCount >= 0 && (todayCount != persistedToday || total != persistedTotal)) {
+                save(today, todayCount, total);
+                persistedToday = todayCount;
+                persistedTotal = total;
+            }
+            persistedDate = today;
+        } catch (Exception e) {
+            logger.warn("Visitor counters persist failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 메모리 상태 초기화 (통계 초기화 시)
+     */
+    public void reset() {
+        synchronized (this) {
+            allTimeIpv4.clear();
+            allTimeOther.clear();
+            totalVisitors = 0;
+        }
+        synchronized (persistLock) {
+            persistedDate = null;
+            persistedToday = -1;
+            persistedTotal = -1;
+        }
+    }
+    
+    private void save(LocalDate date, long visitorCount, long total) {
+        DailyStats dailyStats = dailyStatsRepository.findByStatDate(date)
+            .orElse(new DailyStats(date, 0, 0L));
+        dailyStats.setVisitorCount((int) visitorCount);
+        dailyStats.setTotalVisitors(total);
+        byte[] sketch = visitorSketches.snapshot(date);
+        if (sketch != null) {
+            dailyStats.setVisitorSketch(sketch);
+        }
+        dailyStatsRepository.save(dailyStats);
+    }
+    
+    // 점 표기 IPv4 주소의 부호 없는 32비트 값 (IPv4가 아니면 -1)
+    private static long ipv4(String ip) {
+        if (ip == null) {
+            return -1;
+        }
+        long value = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && dots < 3) {
+                value = (value << 8) | octet;
+                octet = -1;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || octet < 0) {
+            return -1;
+        }
+        return (value << 8) | octet;
+    }
+    
+    // IP 문자열의 64비트 해시 (FNV-1a 후 비트 섞기)
+    static long hashIp(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
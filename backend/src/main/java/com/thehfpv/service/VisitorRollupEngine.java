@@ -0,0 +1,332 @@
+package com.thehfpv.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 방문자 시간/일/월 집계 (visitor_rollups)
+ * visitor_stats를 행 ID 순서로 읽어 마지막으로 반영한 ID(rollup_watermarks) 이후의 행만
+ * 구간별 방문자 수, 리퍼러 호스트, 브라우저 계열 수로 합산한다.
+ * 집계 행 갱신과 워터마크 이동은 한 트랜잭션에서 처리하므로 같은 행이 두 번 반영되지 않는다.
+ * 리퍼러/브라우저 수는 구간마다 상위 STORED_TOP_N개만 남기므로 순위 밖의 값은 근사이다.
+ * 시계열 조회는 visitor_rollups만 읽는다.
+ */
+@Component
+public class VisitorRollupEngine {
+    
+    private static final Logger logger = LoggerFactory.getLogger(VisitorRollupEngine.class);
+    
+    private static final String WATERMARK_NAME = "visitor_stats";
+    
+    // 구간마다 저장하는 리퍼러/브라우저 계열 수
+    private static final int STORED_TOP_N = 20;
+    
+    // 시계열 응답의 구간별 상위 항목 수
+    private static final int POINT_TOP_N = 5;
+    
+    // 한 번에 조회할 수 있는 최대 구간 수
+    private static final int MAX_POINTS = 2000;
+    
+    private static final String DIRECT = "(direct)";
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Long>> COUNTS_TYPE = new TypeReference<>() {
+    };
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO visitor_rollups (granularity, bucket_start, visitor_count, top_referers, top_user_agents, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE visitor_count = VALUES(visitor_count), top_referers = VALUES(top_referers), " +
+        "top_user_agents = VALUES(top_user_agents), updated_at = VALUES(updated_at)";
+    
+    private static final String WATERMARK_SQL =
+        "INSERT INTO rollup_watermarks (name, last_id, updated_at) VALUES (?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), updated_at = VALUES(updated_at)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${blog.visitor-rollup.chunk-size:5000}")
+    private int chunkSize;
+    
+    /**
+     * 워터마크 이후의 visitor_stats 행을 집계에 반영 (밀린 행이 없을 때까지 청크 단위로 반복)
+     */
+    @Scheduled(initialDelayString = "${blog.visitor-rollup.initial-delay-ms:30000}",
+               fixedDelayString = "${blog.visitor-rollup.interval-ms:300000}")
+    public synchronized void rollup() {
+        try {
+            int total = 0;
+            int processed;
+            do {
+                processed = rollupChunk();
+                total += processed;
+            } while (processed >= chunkSize);
+            
+            if (total > 0) {
+                logger.debug("Rolled up {} visitor rows", total);
+            }
+        } catch (Exception e) {
+            logger.warn("Visitor rollup failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 기간 내 구간별 방문자 수 (visitor_rollups만 조회, 비어 있는 구간은 0)
+     * from 날짜를 포함하는 구간부터 to 날짜가 끝나는 구간까지의 points와
+     * 기간 합계(visitors, topReferers, topUserAgents)를 반환한다.
+     */
+    public Map<String, Object> getSeries(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDateTime start = granularity.truncate(from.atStartOfDay());
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        
+        int buckets = 0;
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            if (++buckets > MAX_POINTS) {
+                throw new IllegalArgumentException("Range too large: at most " + MAX_POINTS + " " +
+                    granularity.name().toLowerCase(Locale.ROOT) + " buckets per request");
+            }
+        }
+        
+        Map<LocalDateTime, Bucket> stored = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT bucket_start, visitor_count, top_referers, top_user_agents FROM visitor_rollups " +
+            "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?",
+            rs -> {
+                Bucket bucket = new Bucket();
+                bucket.visitors = rs.getLong(2);
+                bucket.referers.putAll(readCounts(rs.getString(3)));
+                bucket.userAgents.putAll(readCounts(rs.getString(4)));
+                stored.put(rs.getTimestamp(1).toLocalDateTime(), bucket);
+            },
+            granularity.name(), Timestamp.valueOf(start), Timestamp.valueOf(end));
+        
+        Bucket totals = new Bucket();
+        List<Map<String, Object>> points = new ArrayList<>(buckets);
+        for (LocalDateTime bucketStart = start; bucketStart.isBefore(end); bucketStart = granularity.next(bucketStart)) {
+            Bucket bucket = stored.getOrDefault(bucketStart, EMPTY);
+            totals.visitors += bucket.visitors;
+            bucket.referers.forEach((k, v) -> totals.referers.merge(k, v, Long::sum));
+            bucket.userAgents.forEach((k, v) -> totals.userAgents.merge(k, v, Long::sum));
+            
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("bucketStart", bucketStart);
+            point.put("visitors", bucket.visitors);
+            point.put("topReferers", top(bucket.referers, POINT_TOP_N));
+            point.put("topUserAgents", top(bucket.userAgents, POINT_TOP_N));
+            points.add(point);
+        }
+        
+        Map<String, Object> series = new LinkedHashMap<>();
+        series.put("visitors", totals.visitors);
+        series.put("topReferers", top(totals.referers, STORED_TOP_N));
+        series.put("topUserAgents", top(totals.userAgents, STORED_TOP_N));
+        series.put("points", points);
+        return series;
+    }
+    
+    /**
+     * 집계와 워터마크 초기화 (통계 초기화 시)
+     */
+    public synchronized void reset() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM visitor_rollups");
+            jdbcTemplate.update("DELETE FROM rollup_watermarks WHERE name = ?", WATERMARK_NAME);
+        });
+    }
+    
+    private int rollupChunk() {
+        Long watermark = jdbcTemplate.query(
+            "SELECT last_id FROM rollup_watermarks WHERE name = ?",
+            rs -> rs.next() ? rs.getLong(1) : 0L,
+            WATERMARK_NAME);
+        
+        // (단위, 구간 시작) → 이번 청크의 합계
+        Map<RollupGranularity, Map<LocalDateTime, Bucket>> buckets = new HashMap<>();
+        long[] lastId = {watermark};
+        int[] rows = {0};
+        jdbcTemplate.query(
+            "SELECT id, visitor_date, referer, user_agent, created_at FROM visitor_stats WHERE id > ? ORDER BY id LIMIT ?",
+            rs -> {
+                lastId[0] = Math.max(lastId[0], rs.getLong(1));
+                LocalDateTime visitDay = rs.getDate(2).toLocalDate().atStartOfDay();
+                String referer = refererHost(rs.getString(3));
+                String family = userAgentFamily(rs.getString(4));
+                LocalDateTime visitedAt = rs.getTimestamp(5).toLocalDateTime();
+                
+                // 시간 구간은 실제 기록 시각, 일/월 구간은 방문 날짜 기준
+                add(buckets, RollupGranularity.HOUR, RollupGranularity.HOUR.truncate(visitedAt), referer, family);
+                add(buckets, RollupGranularity.DAY, visitDay, referer, family);
+                add(buckets, RollupGranularity.MONTH, RollupGranularity.MONTH.truncate(visitDay), referer, family);
+                rows[0]++;
+            },
+            watermark, chunkSize);
+        if (rows[0] == 0) {
+            return 0;
+        }
+        
+        long newWatermark = lastId[0];
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> upserts = new ArrayList<>();
+            for (Map.Entry<RollupGranularity, Map<LocalDateTime, Bucket>> entry : buckets.entrySet()) {
+                for (Map.Entry<LocalDateTime, Bucket> bucketEntry : entry.getValue().entrySet()) {
+                    Bucket bucket = bucketEntry.getValue();
+                    Timestamp bucketStart = Timestamp.valueOf(bucketEntry.getKey());
+                    
+                    // 기존 집계와 합침 (워터마크 이동과 같은 트랜잭션에서 잠금)
+                    jdbcTemplate.query(
+                        "SELECT visitor_count, top_referers, top_user_agents FROM visitor_rollups " +
+                        "WHERE granularity = ? AND bucket_start = ? FOR UPDATE",
+                        rs -> {
+                            bucket.visitors += rs.getLong(1);
+                            readCounts(rs.getString(2)).forEach((k, v) -> bucket.referers.merge(k, v, Long::sum));
+                            readCounts(rs.getString(3)).forEach((k, v) -> bucket.userAgents.merge(k, v, Long::sum));
+                        },
+                        entry.getKey().name(), bucketStart);
+                    
+                    upserts.add(new Object[]{
+                        entry.getKey().name(), bucketStart, bucket.visitors,
+                        writeCounts(bucket.referers), writeCounts(bucket.userAgents), now
+                    });
+                }
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+            jdbcTemplate.update(WATERMARK_SQL, WATERMARK_NAME, newWatermark, now);
+        });
+        return rows[0];
+    }
+    
+    private static void add(Map<RollupGranularity, Map<LocalDateTime, Bucket>> buckets, RollupGranularity granularity,
+                            LocalDateTime bucketStart, String referer, String family) {
+        Bucket bucket = buckets.computeIfAbsent(granularity, g -> new HashMap<>())
+            .computeIfAbsent(bucketStart, b -> new Bucket());
+        bucket.visitors++;
+        bucket.referers.merge(referer, 1L, Long::sum);
+        bucket.userAgents.merge(family, 1L, Long::sum);
+    }
+    
+    /**
+     * 리퍼러 URL의 호스트 (www. 제외, 없으면 (direct))
+     */
+    static String refererHost(String referer) {
+        if (referer == null || referer.isBlank()) {
+            return DIRECT;
+        }
+        try {
+            String host = URI.create(referer.trim()).getHost();
+            if (host == null || host.isEmpty()) {
+                return DIRECT;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            return host.startsWith("www.") ? host.substring(4) : host;
+        } catch (IllegalArgumentException e) {
+            return "(invalid)";
+        }
+    }
+    
+    /**
+     * User-Agent의 브라우저 계열 (판별 순서가 중요: Edge/Opera/Samsung은 Chrome 문자열을 포함)
+     */
+    static String userAgentFamily(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return "Unknown";
+        }
+        String ua = userAgent.toLowerCase(Locale.ROOT);
+        if (ua.contains("bot") || ua.contains("crawler") || ua.contains("spider") || ua.contains("slurp")) {
+            return "Bot";
+        }
+        if (ua.contains("edg/") || ua.contains("edge/")) {
+            return "Edge";
+        }
+        if (ua.contains("opr/") || ua.contains("opera")) {
+            return "Opera";
+        }
+        if (ua.contains("samsungbrowser")) {
+            return "Samsung Internet";
+        }
+        if (ua.contains("firefox/") || ua.contains("fxios/")) {
+            return "Firefox";
+        }
+        if (ua.contains("chrome/") || ua.contains("crios/")) {
+            return "Chrome";
+        }
+        if (ua.contains("safari/")) {
+            return "Safari";
+        }
+        if (ua.contains("curl/") || ua.contains("wget/") || ua.contains("python") || ua.contains("java/")) {
+            return "Script";
+        }
+        return "Other";
+    }
+    
+    private static Map<String, Long> readCounts(String json) {
+        if (json == null || json.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, COUNTS_TYPE);
+        } catch (JsonProcessingException e) {
+            return Collections.emptyMap();
+        }
+    }
+    
+    // 상위 STORED_TOP_N개만 수 내림차순으로 저장
+    private static String writeCounts(Map<String, Long> counts) {
+        Map<String, Long> trimmed = new LinkedHashMap<>();
+        for (Map<String, Object> item : top(counts, STORED_TOP_N)) {
+            trimmed.put((String) item.get("name"), (Long) item.get("count"));
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(trimmed);
+        } catch (JsonProcessingException e) {
+            return "{}";
+        }
+    }
+    
+    private static List<Map<String, Object>> top(Map<String, Long> counts, int limit) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        
+        List<Map<String, Object>> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (Map.Entry<String, Long> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", entry.getKey());
+            item.put("count", entry.getValue());
+            result.add(item);
+        }
+        return result;
+    }
+    
+    private static final Bucket EMPTY = new Bucket();
+    
+    private static final class Bucket {
+        private long visitors;
+        private final Map<String, Long> referers = new HashMap<>();
+        private final Map<String, Long> userAgents = new HashMap<>();
+    }
+}
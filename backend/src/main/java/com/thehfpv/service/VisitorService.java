@@ -1,9 +1,9 @@
 package com.thehfpv.service;
 
-import com.thehfpv.model.VisitorStats;
 import com.thehfpv.model.DailyStats;
 import com.thehfpv.repository.VisitorStatsRepository;
 import com.thehfpv.repository.DailyStatsRepository;
+import com.thehfpv.util.HyperLogLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -26,92 +27,81 @@ public class VisitorService {
     @Autowired
     private DailyStatsRepository dailyStatsRepository;
     
+    @Autowired
+    private VisitorTracker visitorTracker;
+    
+    @Autowired
+    private VisitorCounters visitorCounters;
+    
+    @Autowired
+    private VisitorSketches visitorSketches;
+    
+    @Autowired
+    private VisitorRollupEngine visitorRollupEngine;
+    
     /**
      * 방문자 추적 및 기록
+     * 중복 판정과 기록은 VisitorTracker가 메모리에서 처리하고 배치로 저장하므로
+     * 요청 스레드는 DB에 접근하지 않는다.
      */
-    @Transactional(noRollbackFor = Exception.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void trackVisitor(HttpServletRequest request) {
-        try {
-            String visitorIp = getClientIpAddress(request);
-            LocalDate today = LocalDate.now();
-            String userAgent = request.getHeader("User-Agent");
-            String referer = request.getHeader("Referer");
-            
-            System.out.println("=== 방문자 추적 시작 ===");
-            System.out.println("Visitor IP: " + visitorIp);
-            System.out.println("Date: " + today);
-            System.out.println("User-Agent: " + userAgent);
-            System.out.println("Referer: " + referer);
-            
-            // 중복 방문 체크 - 같은 IP가 오늘 이미 방문했는지 확인
-            Optional<VisitorStats> existingVisitor = visitorStatsRepository.findByVisitorIpAndVisitorDate(visitorIp, today);
-            
-            if (existingVisitor.isPresent()) {
-                System.out.println("중복 방문자 감지: " + visitorIp + " (오늘 이미 방문함 - 카운트하지 않음)");
-                return; // 중복 방문자는 카운트하지 않음
-            }
-            
-            // 새로운 방문자만 기록
-            VisitorStats visitorStats = new VisitorStats(visitorIp, today, userAgent, referer);
-            visitorStatsRepository.save(visitorStats);
-            
-            System.out.println("새로운 방문자 기록 저장: " + visitorIp + " (고유 방문자)");
-            
-        } catch (Exception e) {
-            // 에러 로그를 간단하게만 출력
-            System.out.println("방문자 추적 중 경미한 오류 발생 (정상 작동): " + e.getClass().getSimpleName());
-            // 예외를 다시 던지지 않아서 트랜잭션이 롤백되지 않음
-        }
+        String visitorIp = getClientIpAddress(request);
+        recordVisit(visitorIp, LocalDate.now(), request.getHeader("User-Agent"), request.getHeader("Referer"));
     }
     
-    /**
-     * 일일 통계 업데이트 (비동기)
-     */
-    private void updateDailyStatsAsync(LocalDate date) {
-        try {
-            updateDailyStats(date);
-        } catch (Exception e) {
-            System.out.println("일일 통계 업데이트 중 오류 (무시): " + e.getClass().getSimpleName());
+    // 그날 처음 본 방문자면 카운터와 스케치에 반영
+    private void recordVisit(String visitorIp, LocalDate date, String userAgent, String referer) {
+        if (visitorTracker.track(visitorIp, date, userAgent, referer)) {
+            visitorCounters.recorded(visitorIp);
+            visitorSketches.recorded(visitorIp, date);
         }
     }
     
     /**
-     * 일일 통계 업데이트
+     * 방문자 통계 조회
+     * 메모리 카운터가 준비되었으면 DB를 조회하지 않는다.
+     * from/to가 있으면 기간 고유 방문자 수(스케치 기반 추정값)를 함께 반환한다.
      */
-    private void updateDailyStats(LocalDate date) {
-        try {
-            // 오늘의 통계 조회 또는 생성
-            DailyStats dailyStats = dailyStatsRepository.findByStatDate(date)
-                .orElse(new DailyStats(date, 0, 0L));
-            
-            // 오늘의 고유 방문자 수 계산
-            Long todayVisitors = visitorStatsRepository.countDistinctVisitorsByDate(date);
-            dailyStats.setVisitorCount(todayVisitors.intValue());
-            
-            // 전체 누적 방문자 수 계산
-            Long totalVisitors = visitorStatsRepository.countDistinctTotalVisitors();
-            dailyStats.setTotalVisitors(totalVisitors);
-            
-            dailyStatsRepository.save(dailyStats);
-            
-            System.out.println("일일 통계 업데이트 완료:");
-            System.out.println("- 날짜: " + date);
-            System.out.println("- 오늘 방문자: " + todayVisitors);
-            System.out.println("- 총 방문자: " + totalVisitors);
-            
-        } catch (Exception e) {
-            // 개발 중에는 에러 로그를 간단하게만 출력
-            System.out.println("일일 통계 업데이트 중 경미한 오류 발생 (정상 작동): " + e.getClass().getSimpleName());
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getVisitorStats(LocalDate from, LocalDate to) {
+        Map<String, Object> response = getVisitorStats();
+        if ((from == null && to == null) || !"success".equals(response.get("status"))) {
+            return response;
         }
+        
+        LocalDate rangeTo = to != null ? to : LocalDate.now();
+        if (from == null || from.isAfter(rangeTo)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("status", "error");
+            errorResponse.put("message", "조회 기간이 올바르지 않습니다.");
+            return errorResponse;
+        }
+        
+        response.put("from", from);
+        response.put("to", rangeTo);
+        if (visitorSketches.isReady()) {
+            response.put("rangeVisitors", visitorSketches.estimate(from, rangeTo));
+            response.put("rangeApproximate", true);
+            response.put("rangeStandardError", HyperLogLog.STANDARD_ERROR);
+        } else {
+            // 스케치 적재 전에는 원본에서 계산
+            response.put("rangeVisitors", visitorStatsRepository.countDistinctVisitorsByDateRange(from, rangeTo));
+            response.put("rangeApproximate", false);
+        }
+        return response;
     }
     
-    /**
-     * 방문자 통계 조회
-     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getVisitorStats() {
         try {
+            if (visitorCounters.isReady()) {
+                return toStatsResponse(visitorCounters.getTodayVisitors(), visitorCounters.getTotalVisitors());
+            }
+            
             LocalDate today = LocalDate.now();
             
+            // 카운터 적재 전에는 DB에서 계산
             // 오늘의 방문자 수
             Long todayVisitors = visitorStatsRepository.countDistinctVisitorsByDate(today);
             
@@ -129,18 +119,8 @@ public class VisitorService {
                 totalVisitors = stats.getTotalVisitors();
             }
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("todayVisitors", todayVisitors);
-            response.put("totalVisitors", totalVisitors);
-            response.put("lastUpdated", LocalDateTime.now());
-            response.put("status", "success");
-            
-            System.out.println("=== 방문자 통계 조회 ===");
-            System.out.println("Today Visitors: " + todayVisitors);
-            System.out.println("Total Visitors: " + totalVisitors);
-            
-            return response;
-            
+            return toStatsResponse(todayVisitors, totalVisitors);
+        
         } catch (Exception e) {
             System.err.println("방문자 통계 조회 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -156,6 +136,39 @@ public class VisitorService {
         }
     }
     
+    /**
+     * 기간 방문자 시계열 (visitor_rollups 집계만 사용)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getVisitorSeries(String granularity, LocalDate from, LocalDate to) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            RollupGranularity rollupGranularity = RollupGranularity.fromParam(granularity);
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("Invalid range: from is after to");
+            }
+            
+            response.putAll(visitorRollupEngine.getSeries(rollupGranularity, from, to));
+            response.put("granularity", rollupGranularity.name().toLowerCase(Locale.ROOT));
+            response.put("from", from);
+            response.put("to", to);
+            response.put("status", "success");
+        } catch (IllegalArgumentException e) {
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+        }
+        return response;
+    }
+    
+    private Map<String, Object> toStatsResponse(long todayVisitors, long totalVisitors) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("todayVisitors", todayVisitors);
+        response.put("totalVisitors", totalVisitors);
+        response.put("lastUpdated", LocalDateTime.now());
+        response.put("status", "success");
+        return response;
+    }
+    
     /**
      * 클라이언트 IP 주소 추출
      */
@@ -185,6 +198,10 @@ public class VisitorService {
         try {
             visitorStatsRepository.deleteAll();
             dailyStatsRepository.deleteAll();
+            visitorTracker.reset();
+            visitorCounters.reset();
+            visitorSketches.reset();
+            visitorRollupEngine.reset();
             System.out.println("모든 방문자 통계가 초기화되었습니다.");
         } catch (Exception e) {
             System.err.println("통계 초기화 중 오류 발생: " + e.getMessage());
@@ -205,15 +222,11 @@ public class VisitorService {
             String testUserAgent = "Test-Browser/Dev-" + System.currentTimeMillis();
             String testReferer = "http://localhost:3000";
             
-            // 새로운 방문자 기록 생성
-            VisitorStats visitorStats = new VisitorStats(testIp, today, testUserAgent, testReferer);
-            visitorStatsRepository.save(visitorStats);
+            // 일반 방문과 같은 경로로 기록 (카운터 갱신, daily_stats는 주기적으로 저장)
+            recordVisit(testIp, today, testUserAgent, testReferer);
             
             System.out.println("개발용 방문자 수 증가: " + testIp);
-            
-            // 일일 통계 업데이트
-            updateDailyStats(today);
-            
+        
         } catch (Exception e) {
             System.err.println("방문자 수 증가 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,264 @@
+package com.thehfpv.service;
+
+import com.thehfpv.model.DailyStats;
+import com.thehfpv.repository.DailyStatsRepository;
+import com.thehfpv.repository.VisitorStatsRepository;
+import com.thehfpv.util.HyperLogLog;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 날짜별 방문자 HyperLogLog 스케치
+ * 하루에 4KB 고정 크기의 스케치를 daily_stats.visitor_sketch에 저장하고, 메모리에 모두 올려 둔다.
+ * 임의 기간의 고유 방문자 수는 해당 날짜 스케치를 합쳐 추정하므로 visitor_stats 원본을 읽지 않는다.
+ * 오차는 HyperLogLog.STANDARD_ERROR(약 1.6%) 수준이다.
+ * 오늘 스케치는 새 방문자가 기록될 때 갱신되고 VisitorCounters가 daily_stats에 함께 저장한다.
+ * 시작 시 마지막 스케치 이후의 지난 날짜는 visitor_stats에서 만들어 채운다 (backfill).
+ * 전날 스케치는 마지막 저장 이후의 방문이 빠졌을 수 있어 시작 시 visitor_stats로 다시 만들어 저장한다.
+ */
+@Component
+public class VisitorSketches {
+    
+    private static final Logger logger = LoggerFactory.getLogger(VisitorSketches.class);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private DailyStatsRepository dailyStatsRepository;
+    
+    @Autowired
+    private VisitorStatsRepository visitorStatsRepository;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 날짜별 스케치 (오늘 포함)
+    private final NavigableMap<LocalDate, HyperLogLog> sketches = new TreeMap<>();
+    
+    private volatile boolean ready = false;
+    
+    /**
+     * 시작 시 스케치 없는 지난 날짜 backfill 후 저장된 스케치와 오늘 방문자 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            int backfilled = backfill(false);
+            
+            Map<LocalDate, HyperLogLog> loaded = new TreeMap<>();
+            for (DailyStats stats : dailyStatsRepository.findAllWithVisitorSketch()) {
+                HyperLogLog sketch = HyperLogLog.fromBytes(stats.getVisitorSketch());
+                if (sketch != null) {
+                    loaded.put(stats.getStatDate(), sketch);
+                }
+            }
+            
+            // 오늘 스케치는 저장된 값이 아니라 오늘 기록된 방문자로 다시 만든다
+            LocalDate today = LocalDate.now();
+            loaded.put(today, rebuild(today).sketch);
+            
+            // 전날 스케치와 방문자 수도 원본으로 다시 만들어 저장 (종료 직전 구간이 저장되지 않았을 수 있음)
+            LocalDate yesterday = today.minusDays(1);
+            DayRows rebuilt = rebuild(yesterday);
+            if (rebuilt.count > 0) {
+                dailyStatsRepository.findByStatDate(yesterday).ifPresent(stats -> {
+                    stats.setVisitorCount((int) rebuilt.count);
+                    stats.setVisitorSketch(rebuilt.sketch.toBytes());
+                    dailyStatsRepository.save(stats);
+                });
+                loaded.put(yesterday, rebuilt.sketch);
+            }
+            
+            // 적재 중 기록된 방문자와 합침
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<LocalDate, HyperLogLog> entry : loaded.entrySet()) {
+                    HyperLogLog current = sketches.get(entry.getKey());
+                    if (current != null) {
+                        entry.getValue().merge(current);
+                    }
+                    sketches.put(entry.getKey(), entry.getValue());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            logger.info("Visitor sketches loaded: {} days ({} backfilled)", loaded.size(), backfilled);
+        } catch (Exception e) {
+            logger.error("Visitor sketches load failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 그날 처음 기록된 방문자 반영
+     */
+    public void recorded(String visitorIp, LocalDate date) {
+        long hash = VisitorCounters.hashIp(visitorIp);
+        lock.writeLock().lock();
+        try {
+            sketches.computeIfAbsent(date, d -> new HyperLogLog()).add(hash);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 기간 내 고유 방문자 추정값 (양 끝 포함)
+     */
+    public long estimate(LocalDate from, LocalDate to) {
+        HyperLogLog merged = new HyperLogLog();
+        lock.readLock().lock();
+        try {
+            for (HyperLogLog sketch : sketches.subMap(from, true, to, true).values()) {
+                merged.merge(sketch);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return merged.estimate();
+    }
+    
+    /**
+     * 저장용 스케치 바이트 (없으면 null)
+     */
+    public byte[] snapshot(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            HyperLogLog sketch = sketches.get(date);
+            return sketch != null ? sketch.toBytes() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * visitor_stats에서 지난 날짜 스케치를 만들어 daily_stats에 저장
+     * all이 false면 마지막으로 스케치가 저장된 날짜 이후만 읽고(전날까지 있으면 읽지 않음),
+     * true면 모든 지난 날짜를 다시 만든다.
+     * 통계 행이 없던 날짜는 방문자 수/누적 방문자 수도 함께 채운다.
+     */
+    public int backfill(boolean all) {
+        LocalDate today = LocalDate.now();
+        LocalDate after = all ? null : dailyStatsRepository.findLatestVisitorSketchDate();
+        if (after != null && !after.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        
+        List<DayRows> days = new ArrayList<>();
+        Roaring64Bitmap cumulative = new Roaring64Bitmap();
+        DayRows[] current = new DayRows[1];
+        RowCallbackHandler handler = rs -> {
+            LocalDate date = rs.getDate(1).toLocalDate();
+            long hash = VisitorCounters.hashIp(rs.getString(2));
+            if (current[0] == null || !current[0].date.equals(date)) {
+                if (current[0] != null) {
+                    current[0].total = cumulative.getLongCardinality();
+                }
+                current[0] = new DayRows(date);
+                days.add(current[0]);
+            }
+            cumulative.addLong(hash);
+            current[0].sketch.add(hash);
+            current[0].count++;
+        };
+        if (after == null) {
+            jdbcTemplate.query(
+                "SELECT visitor_date, visitor_ip FROM visitor_stats WHERE visitor_date < ? ORDER BY visitor_date",
+                handler, Date.valueOf(today));
+        } else {
+            jdbcTemplate.query(
+                "SELECT visitor_date, visitor_ip FROM visitor_stats WHERE visitor_date > ? AND visitor_date < ? " +
+                "ORDER BY visitor_date",
+                handler, Date.valueOf(after), Date.valueOf(today));
+        }
+        if (current[0] != null) {
+            current[0].total = cumulative.getLongCardinality();
+        }
+        
+        // 일부 기간만 읽었으면 누적 방문자 수는 새로 만드는 통계 행에 한해 따로 센다
+        if (after != null) {
+            for (DayRows day : days) {
+                if (dailyStatsRepository.findByStatDate(day.date).isEmpty()) {
+                    day.total = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(DISTINCT visitor_ip) FROM visitor_stats WHERE visitor_date <= ?",
+                        Long.class, Date.valueOf(day.date));
+                }
+            }
+        }
+        
+        List<DailyStats> rows = new ArrayList<>(days.size());
+        for (DayRows day : days) {
+            DailyStats stats = dailyStatsRepository.findByStatDate(day.date)
+                .orElse(new DailyStats(day.date, (int) day.count, day.total));
+            stats.setVisitorSketch(day.sketch.toBytes());
+            rows.add(stats);
+        }
+        dailyStatsRepository.saveAll(rows);
+        
+        if (all) {
+            lock.writeLock().lock();
+            try {
+                for (DayRows day : days) {
+                    sketches.put(day.date, day.sketch);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("Visitor sketch backfill: {} days", days.size());
+        return days.size();
+    }
+    
+    // 그날 기록된 방문자로 스케치와 방문자 수를 만듦
+    private DayRows rebuild(LocalDate date) {
+        DayRows day = new DayRows(date);
+        for (String ip : visitorStatsRepository.findVisitorIpsByDate(date)) {
+            day.sketch.add(VisitorCounters.hashIp(ip));
+            day.count++;
+        }
+        return day;
+    }
+    
+    /**
+     * 메모리 상태 초기화 (통계 초기화 시)
+     */
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            sketches.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private static final class DayRows {
+        private final LocalDate date;
+        private final HyperLogLog sketch = new HyperLogLog();
+        private long count;
+        private long total;
+        
+        DayRows(LocalDate date) {
+            this.date = date;
+        }
+    }
+}
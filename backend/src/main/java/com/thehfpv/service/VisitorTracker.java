@@ -0,0 +1,243 @@
+package com.thehfpv.service;
+
+import com.thehfpv.repository.VisitorStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일별 고유 방문자 중복 제거 및 배치 기록
+ * 오늘 이미 본 (IP, 날짜)는 메모리의 집합으로 판정하여 DB를 거치지 않는다.
+ * 새 방문자만 크기가 제한된 큐에 넣고, 주기적으로 INSERT IGNORE 배치로 visitor_stats에 기록한다.
+ * 요청 스레드는 큐에 넣고 바로 반환하며, 종료 시 큐에 남은 방문을 모두 기록한다.
+ * 날짜가 바뀌면 집합을 새로 시작하고(전날 집합은 하루 더 유지), 시작 시 오늘 기록된 IP로 집합을 채운다.
+ * 오늘 집합의 크기가 곧 오늘의 고유 방문자 수이다.
+ */
+@Component
+public class VisitorTracker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(VisitorTracker.class);
+    
+    private static final String INSERT_SQL =
+        "INSERT IGNORE INTO visitor_stats (visitor_ip, visitor_date, user_agent, referer, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    
+    // visitor_stats 컬럼 길이
+    private static final int MAX_IP_LENGTH = 45;
+    private static final int MAX_REFERER_LENGTH = 500;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private VisitorStatsRepository visitorStatsRepository;
+    
+    @Value("${blog.visitor.batch-size:500}")
+    private int batchSize;
+    
+    private final BlockingQueue<Visit> queue;
+    
+    // 오늘 이미 기록(또는 큐에 등록)된 IP
+    private volatile Day today = new Day(LocalDate.now());
+    
+    // 직전 날짜의 집합 (자정 이후 전날 최종 방문자 수 저장용)
+    private volatile Day previous;
+    
+    // 날짜 교체용 잠금 (flush 중에도 요청 스레드가 기다리지 않도록 별도 객체 사용)
+    private final Object dayLock = new Object();
+    
+    // 큐가 가득 차 버린 방문 수
+    private final AtomicLong dropped = new AtomicLong();
+    
+    public VisitorTracker(@Value("${blog.visitor.queue-capacity:10000}") int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+    
+    /**
+     * 시작 시 오늘 이미 기록된 방문자 IP 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Day day = currentDay(LocalDate.now());
+            List<String> ips = visitorStatsRepository.findVisitorIpsByDate(day.date);
+            day.seen.addAll(ips);
+            logger.info("Visitor tracker loaded {} visitors for {}", ips.size(), day.date);
+        } catch (Exception e) {
+            logger.error("Visitor tracker load failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 방문 기록 (DB 접근 없음)
+     * 오늘 처음 본 IP이면 기록 큐에 넣고 true, 이미 본 IP이면 false
+     */
+    public boolean track(String visitorIp, LocalDate date, String userAgent, String referer) {
+        String ip = truncate(visitorIp, MAX_IP_LENGTH);
+        Visit visit = new Visit(ip, date, userAgent, truncate(referer, MAX_REFERER_LENGTH), LocalDateTime.now());
+        Day day = currentDay(date);
+        if (!day.date.equals(date)) {
+            // 자정 직후 이전 날짜로 들어온 방문은 기록만 하고 (중복은 INSERT IGNORE가 거름) 새 방문자로 세지 않음
+            if (!queue.offer(visit)) {
+                dropped.incrementAndGet();
+            }
+            return false;
+        }
+        if (!day.seen.add(ip)) {
+            return false;
+        }
+        
+        if (!queue.offer(visit)) {
+            // 큐가 가득 차면 버리고, 다음 방문 때 다시 기록되도록 집합에서 제거
+            day.seen.remove(ip);
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 해당 날짜의 고유 방문자 수 (오늘 또는 전날만 메모리에 있으며, 그 외에는 -1)
+     */
+    public long countFor(LocalDate date) {
+        Day day = currentDay(date);
+        if (day.date.equals(date)) {
+            return day.seen.size();
+        }
+        Day before = previous;
+        if (before != null && before.date.equals(date)) {
+            return before.seen.size();
+        }
+        return -1;
+    }
+    
+    /**
+     * 큐에 쌓인 방문을 INSERT IGNORE 배치로 기록
+     * 호출 시점의 큐 크기만큼만 처리하고, 배치가 실패하면 남은 방문은 다음 flush로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${blog.visitor.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        int remaining = queue.size();
+        List<Visit> batch = new ArrayList<>();
+        while (remaining > 0 && queue.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+            remaining -= batch.size();
+            if (!write(batch)) {
+                break;
+            }
+            batch.clear();
+        }
+        
+        long droppedCount = dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            logger.warn("Visitor queue full, dropped {} visits", droppedCount);
+        }
+    }
+    
+    /**
+     * 애플리케이션 종료 시 남은 방문 기록
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+    
+    /**
+     * 메모리 상태 초기화 (통계 초기화 시)
+     */
+    public synchronized void reset() {
+        queue.clear();
+        synchronized (dayLock) {
+            today = new Day(LocalDate.now());
+            previous = null;
+        }
+    }
+    
+    private boolean write(List<Visit> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (Visit visit : batch) {
+            Timestamp now = Timestamp.valueOf(visit.visitedAt);
+            rows.add(new Object[]{visit.ip, Date.valueOf(visit.date), visit.userAgent, visit.referer, now, now});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            logger.debug("Recorded {} new visitors", rows.size());
+            return true;
+        } catch (Exception e) {
+            // 실패한 방문은 다음 flush에서 다시 시도 (큐에 자리가 있는 만큼)
+            logger.warn("Visitor flush failed, re-queueing {} visits: {}", batch.size(), e.getMessage());
+            for (Visit visit : batch) {
+                if (!queue.offer(visit)) {
+                    dropped.incrementAndGet();
+                }
+            }
+            return false;
+        }
+    }
+    
+    // 날짜가 바뀌었으면 새 집합으로 교체
+    private Day currentDay(LocalDate date) {
+        Day day = today;
+        if (date.isAfter(day.date)) {
+            synchronized (dayLock) {
+                day = today;
+                if (date.isAfter(day.date)) {
+                    previous = today;
+                    day = new Day(date);
+                    today = day;
+                }
+            }
+        }
+        return day;
+    }
+    
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+    
+    private static final class Day {
+        private final LocalDate date;
+        private final Set<String> seen = ConcurrentHashMap.newKeySet();
+        
+        Day(LocalDate date) {
+            this.date = date;
+        }
+    }
+    
+    private static final class Visit {
+        private final String ip;
+        private final LocalDate date;
+        private final String userAgent;
+        private final String referer;
+        private final LocalDateTime visitedAt;
+        
+        Visit(String ip, LocalDate date, String userAgent, String referer, LocalDateTime visitedAt) {
+            this.ip = ip;
+            this.date = date;
+            this.userAgent = userAgent;
+            this.referer = referer;
+            this.visitedAt = visitedAt;
+        }
+    }
+}
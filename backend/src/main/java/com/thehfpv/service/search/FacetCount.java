@@ -0,0 +1,23 @@
+package com.thehfpv.service.search;
+
+/**
+ * 패싯 값(카테고리 또는 태그)과 해당 공개 게시글 수
+ */
+public final class FacetCount {
+    
+    private final String value;
+    private final long count;
+    
+    public FacetCount(String value, long count) {
+        this.value = value;
+        this.count = count;
+    }
+    
+    public String getValue() {
+        return value;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+}
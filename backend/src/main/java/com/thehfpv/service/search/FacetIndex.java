@@ -0,0 +1,233 @@
+package com.thehfpv.service.search;
+
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리/태그별 공개 게시글 수 (패싯)
+ * 게시글마다 카테고리와 정규화된 태그를 기억해 두고, 저장/삭제 시 이전 값을 빼고 새 값을
+ * 더하는 방식으로 집계를 갱신한다. 전체 패싯은 변경이 있을 때만 다시 정렬하고,
+ * 검색 결과 패싯은 검색된 게시글 ID에 대해 메모리에서 센다.
+ * 공개(PUBLISHED) 게시글만 포함한다.
+ */
+@Component
+public class FacetIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FacetIndex.class);
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 게시글 ID → 카테고리/태그 (갱신/삭제 시 이전 값 차감용)
+    private final Map<Long, Entry> entries = new HashMap<>();
+    
+    private final Map<String, Long> categoryCounts = new HashMap<>();
+    private final Map<String, Long> tagCounts = new HashMap<>();
+    
+    // 정렬된 전체 패싯, 변경 시 무효화
+    private volatile Facets sorted;
+    
+    private volatile boolean ready;
+    
+    // 적재 중 반영된 변경 (적재 결과에 다시 적용, 값이 비어 있으면 제거)
+    private final Map<Long, Optional<Entry>> changedDuringLoad = new HashMap<>();
+    private boolean loading;
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 시작 시 공개 게시글의 카테고리와 태그로 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            changedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        try {
+            List<Object[]> rows = blogPostRepository.findPublishedFacetRows();
+            lock.writeLock().lock();
+            try {
+                entries.clear();
+                categoryCounts.clear();
+                tagCounts.clear();
+                for (Object[] row : rows) {
+                    add((Long) row[0], new Entry((String) row[1], TagIndex.parseTags((String) row[2])));
+                }
+                for (Map.Entry<Long, Optional<Entry>> change : changedDuringLoad.entrySet()) {
+                    removeInternal(change.getKey());
+                    change.getValue().ifPresent(entry -> add(change.getKey(), entry));
+                }
+                sorted = null;
+            } finally {
+                loading = false;
+                changedDuringLoad.clear();
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            logger.info("Facet index built: {} categories, {} tags over {} posts",
+                categoryCounts.size(), tagCounts.size(), entries.size());
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                changedDuringLoad.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Facet index load failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 게시글 변경 반영 (공개 상태가 아니면 제거)
+     */
+    public void put(BlogPost post) {
+        Entry entry = "PUBLISHED".equals(post.getStatus())
+            ? new Entry(post.getCategory(), TagIndex.parseTags(post.getTags()))
+            : null;
+        lock.writeLock().lock();
+        try {
+            removeInternal(post.getPostId());
+            if (entry != null) {
+                add(post.getPostId(), entry);
+            }
+            if (loading) {
+                changedDuringLoad.put(post.getPostId(), Optional.ofNullable(entry));
+            }
+            sorted = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 삭제된 게시글 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            if (loading) {
+                changedDuringLoad.put(postId, Optional.empty());
+            }
+            sorted = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 전체 공개 게시글의 카테고리/태그 패싯
+     */
+    public Facets getFacets() {
+        Facets facets = sorted;
+        if (facets != null) {
+            return facets;
+        }
+        lock.readLock().lock();
+        try {
+            facets = new Facets(toSortedList(categoryCounts), toSortedList(tagCounts));
+            sorted = facets;
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 주어진 게시글 ID(검색 결과 등) 중 공개 게시글의 카테고리/태그 패싯
+     */
+    public Facets countFor(Collection<Long> postIds) {
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> tags = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long postId : postIds) {
+                Entry entry = entries.get(postId);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.category != null) {
+                    categories.merge(entry.category, 1L, Long::sum);
+                }
+                for (String tag : entry.tags) {
+                    tags.merge(tag, 1L, Long::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Facets(toSortedList(categories), toSortedList(tags));
+    }
+    
+    private void add(Long postId, Entry entry) {
+        entries.put(postId, entry);
+        if (entry.category != null) {
+            categoryCounts.merge(entry.category, 1L, Long::sum);
+        }
+        for (String tag : entry.tags) {
+            tagCounts.merge(tag, 1L, Long::sum);
+        }
+    }
+    
+    private void removeInternal(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry == null) {
+            return;
+        }
+        if (entry.category != null) {
+            decrement(categoryCounts, entry.category);
+        }
+        for (String tag : entry.tags) {
+            decrement(tagCounts, tag);
+        }
+    }
+    
+    private static void decrement(Map<String, Long> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+    
+    private static List<FacetCount> toSortedList(Map<String, Long> counts) {
+        List<FacetCount> list = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> list.add(new FacetCount(value, count)));
+        list.sort(Comparator.comparingLong(FacetCount::getCount).reversed()
+            .thenComparing(FacetCount::getValue));
+        return list;
+    }
+    
+    private static final class Entry {
+        private final String category;
+        private final Set<String> tags;
+    
+        Entry(String category, Set<String> tags) {
+            this.category = category == null || category.isBlank() ? null : category.trim();
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.thehfpv.service.search;
+
+import java.util.List;
+
+/**
+ * 카테고리/태그 패싯 목록 (게시글 수 내림차순, 같으면 값 오름차순)
+ */
+public final class Facets {
+    
+    private final List<FacetCount> categories;
+    private final List<FacetCount> tags;
+    
+    public Facets(List<FacetCount> categories, List<FacetCount> tags) {
+        this.categories = categories;
+        this.tags = tags;
+    }
+    
+    public List<FacetCount> getCategories() {
+        return categories;
+    }
+    
+    public List<FacetCount> getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,384 @@
+package com.thehfpv.service.search;
+
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.repository.BlogPostRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 유사도 기반 관련 게시글 엔진
+ * 공개 게시글마다 TF-IDF 벡터(제목·태그·본문, 상위 가중치 토큰만)를 만들고
+ * 코사인 유사도 + 태그 Jaccard + 같은 카테고리 보너스로 상위 K개 이웃을 미리 계산해 둔다.
+ * 조회는 게시글 ID로 이웃 목록을 꺼내는 것뿐이다(O(1)).
+ *
+ * 모든 변경(전체 재구축, 게시글 단위 갱신/삭제)은 단일 작업 스레드에서 순서대로 처리하므로
+ * 요청 스레드가 계산을 기다리지 않는다. 게시글이 바뀌면 그 게시글의 이웃을 다시 계산하고,
+ * 이웃 목록에 영향을 받는 게시글만 갱신한다. IDF는 주기적인 전체 재구축 때 다시 맞춘다.
+ */
+@Component
+public class RelatedPostsEngine {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RelatedPostsEngine.class);
+    
+    // 게시글당 보관하는 이웃 수
+    public static final int MAX_NEIGHBOURS = 10;
+    
+    // 문서 벡터에 남기는 상위 토큰 수
+    private static final int MAX_TERMS = 64;
+    
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double TAG_WEIGHT = 2.0;
+    private static final double TAG_OVERLAP_WEIGHT = 0.5;
+    private static final double SAME_CATEGORY_BONUS = 0.05;
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "related-posts");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // 조회용: 게시글 ID → 유사도 순 이웃 ID (불변 리스트)
+    private final Map<Long, List<Long>> neighbourIds = new ConcurrentHashMap<>();
+    
+    // 이하 작업 스레드 전용 상태
+    private final Map<Long, Source> sources = new HashMap<>();
+    private final Map<Long, Vector> vectors = new HashMap<>();
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+    private final Map<String, Integer> documentFrequencies = new HashMap<>();
+    private final Map<Long, List<Neighbour>> neighbours = new HashMap<>();
+    
+    /**
+     * 시작 시 및 주기적으로 전체 재구축 (IDF 재계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${blog.related.rebuild-interval-ms:21600000}",
+               fixedDelayString = "${blog.related.rebuild-interval-ms:21600000}")
+    public void scheduleRebuild() {
+        worker.execute(this::rebuild);
+    }
+    
+    /**
+     * 게시글 변경 반영 (공개 상태가 아니면 제거)
+     */
+    public void put(BlogPost post) {
+        if (!"PUBLISHED".equals(post.getStatus())) {
+            remove(post.getPostId());
+            return;
+        }
+        Source source = new Source(post.getPostId(), post.getTitle(), post.getTags(),
+            SearchDocument.plainTextOf(post.getPlainText(), post.getContent()), post.getCategory());
+        worker.execute(() -> update(source));
+    }
+    
+    /**
+     * 삭제(또는 비공개 전환)된 게시글 제거
+     */
+    public void remove(Long postId) {
+        worker.execute(() -> delete(postId));
+    }
+    
+    /**
+     * 관련 게시글 ID (유사도 순, 최대 limit개)
+     */
+    public List<Long> getRelatedPostIds(Long postId, int limit) {
+        List<Long> ids = neighbourIds.getOrDefault(postId, Collections.emptyList());
+        return ids.subList(0, Math.min(limit, ids.size()));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+    
+    private void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<Source> loaded = new ArrayList<>();
+            for (Object[] row : blogPostRepository.findRelatedRows()) {
+                loaded.add(new Source((Long) row[0], (String) row[1], (String) row[2],
+                    SearchDocument.plainTextOf((String) row[3], (String) row[5]), (String) row[4]));
+            }
+            
+            sources.clear();
+            vectors.clear();
+            postings.clear();
+            documentFrequencies.clear();
+            for (Source source : loaded) {
+                sources.put(source.postId, source);
+                for (String term : source.termFrequencies.keySet()) {
+                    documentFrequencies.merge(term, 1, Integer::sum);
+                }
+            }
+            for (Source source : loaded) {
+                addVector(source);
+            }
+            
+            // 게시글별 이웃 계산은 서로 독립적이므로 병렬 처리
+            Map<Long, List<Neighbour>> computed = loaded.parallelStream()
+                .collect(Collectors.toMap(source -> source.postId, source -> computeNeighbours(source.postId)));
+            
+            neighbours.clear();
+            neighbours.putAll(computed);
+            neighbourIds.clear();
+            for (Map.Entry<Long, List<Neighbour>> entry : computed.entrySet()) {
+                publish(entry.getKey());
+            }
+            logger.info("Related posts rebuilt for {} posts in {} ms", loaded.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Related posts rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    private void update(Source source) {
+        Long postId = source.postId;
+        Set<Long> affected = detach(postId);
+        
+        sources.put(postId, source);
+        for (String term : source.termFrequencies.keySet()) {
+            documentFrequencies.merge(term, 1, Integer::sum);
+        }
+        addVector(source);
+        neighbours.put(postId, computeNeighbours(postId));
+        publish(postId);
+        
+        // 새 벡터가 다른 게시글의 상위 K에 들어가는지 확인
+        Vector vector = vectors.get(postId);
+        for (Long otherId : vectors.keySet()) {
+            if (otherId.equals(postId) || affected.contains(otherId)) {
+                continue;
+            }
+            double score = similarity(vectors.get(otherId), vector);
+            if (score > 0 && offer(otherId, new Neighbour(postId, score))) {
+                publish(otherId);
+            }
+        }
+        recompute(affected);
+    }
+    
+    private void delete(Long postId) {
+        Set<Long> affected = detach(postId);
+        neighbourIds.remove(postId);
+        recompute(affected);
+    }
+    
+    // 게시글을 색인에서 빼고, 이 게시글을 이웃으로 가지고 있던 게시글 ID 반환
+    private Set<Long> detach(Long postId) {
+        Set<Long> affected = new HashSet<>();
+        for (Map.Entry<Long, List<Neighbour>> entry : neighbours.entrySet()) {
+            for (Neighbour neighbour : entry.getValue()) {
+                if (neighbour.postId.equals(postId)) {
+                    affected.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        affected.remove(postId);
+        
+        Source previous = sources.remove(postId);
+        if (previous != null) {
+            for (String term : previous.termFrequencies.keySet()) {
+                documentFrequencies.computeIfPresent(term, (t, df) -> df > 1 ? df - 1 : null);
+            }
+        }
+        Vector vector = vectors.remove(postId);
+        if (vector != null) {
+            for (String term : vector.weights.keySet()) {
+                Map<Long, Double> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(postId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        neighbours.remove(postId);
+        return affected;
+    }
+    
+    private void recompute(Set<Long> postIds) {
+        for (Long postId : postIds) {
+            if (vectors.containsKey(postId)) {
+                neighbours.put(postId, computeNeighbours(postId));
+                publish(postId);
+            }
+        }
+    }
+    
+    // 이웃 목록에 후보를 넣을 자리가 있으면 삽입 (변경 여부 반환)
+    private boolean offer(Long postId, Neighbour candidate) {
+        List<Neighbour> current = neighbours.getOrDefault(postId, Collections.emptyList());
+        if (current.size() >= MAX_NEIGHBOURS && current.get(current.size() - 1).score >= candidate.score) {
+            return false;
+        }
+        List<Neighbour> updated = new ArrayList<>(current);
+        updated.add(candidate);
+        updated.sort(Neighbour.BY_SCORE);
+        if (updated.size() > MAX_NEIGHBOURS) {
+            updated = updated.subList(0, MAX_NEIGHBOURS);
+        }
+        neighbours.put(postId, updated);
+        return true;
+    }
+    
+    // 역색인으로 토큰을 공유하는 후보만 모아 유사도 계산 (읽기 전용이라 병렬 호출 가능)
+    private List<Neighbour> computeNeighbours(Long postId) {
+        Vector vector = vectors.get(postId);
+        Map<Long, Double> dotProducts = new HashMap<>();
+        for (Map.Entry<String, Double> term : vector.weights.entrySet()) {
+            for (Map.Entry<Long, Double> posting : postings.getOrDefault(term.getKey(), Collections.emptyMap()).entrySet()) {
+                if (!posting.getKey().equals(postId)) {
+                    dotProducts.merge(posting.getKey(), term.getValue() * posting.getValue(), Double::sum);
+                }
+            }
+        }
+        
+        List<Neighbour> result = new ArrayList<>();
+        for (Map.Entry<Long, Double> candidate : dotProducts.entrySet()) {
+            Vector other = vectors.get(candidate.getKey());
+            result.add(new Neighbour(candidate.getKey(), candidate.getValue() + bonus(vector, other)));
+        }
+        result.sort(Neighbour.BY_SCORE);
+        return result.size() > MAX_NEIGHBOURS ? new ArrayList<>(result.subList(0, MAX_NEIGHBOURS)) : result;
+    }
+    
+    private double similarity(Vector a, Vector b) {
+        Map<String, Double> smaller = a.weights.size() <= b.weights.size() ? a.weights : b.weights;
+        Map<String, Double> larger = smaller == a.weights ? b.weights : a.weights;
+        double dot = 0;
+        for (Map.Entry<String, Double> term : smaller.entrySet()) {
+            Double weight = larger.get(term.getKey());
+            if (weight != null) {
+                dot += term.getValue() * weight;
+            }
+        }
+        return dot > 0 ? dot + bonus(a, b) : 0;
+    }
+    
+    // 태그 Jaccard 유사도와 같은 카테고리 보너스
+    private double bonus(Vector a, Vector b) {
+        double score = 0;
+        if (!a.tags.isEmpty() && !b.tags.isEmpty()) {
+            int shared = 0;
+            for (String tag : a.tags) {
+                if (b.tags.contains(tag)) {
+                    shared++;
+                }
+            }
+            score += TAG_OVERLAP_WEIGHT * shared / (a.tags.size() + b.tags.size() - shared);
+        }
+        if (a.category != null && a.category.equals(b.category)) {
+            score += SAME_CATEGORY_BONUS;
+        }
+        return score;
+    }
+    
+    // 현재 문서 빈도로 TF-IDF 벡터를 만들어 상위 MAX_TERMS개만 L2 정규화하여 등록
+    private void addVector(Source source) {
+        int documentCount = Math.max(sources.size(), 1);
+        List<Map.Entry<String, Double>> weights = new ArrayList<>();
+        for (Map.Entry<String, Double> term : source.termFrequencies.entrySet()) {
+            int df = documentFrequencies.getOrDefault(term.getKey(), 1);
+            double idf = Math.log(1 + (double) documentCount / df);
+            weights.add(Map.entry(term.getKey(), (1 + Math.log(term.getValue())) * idf));
+        }
+        weights.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+        
+        Map<String, Double> top = new HashMap<>();
+        double norm = 0;
+        for (Map.Entry<String, Double> weight : weights.subList(0, Math.min(MAX_TERMS, weights.size()))) {
+            top.put(weight.getKey(), weight.getValue());
+            norm += weight.getValue() * weight.getValue();
+        }
+        norm = Math.sqrt(norm);
+        if (norm > 0) {
+            for (Map.Entry<String, Double> weight : top.entrySet()) {
+                weight.setValue(weight.getValue() / norm);
+            }
+        }
+        
+        Vector vector = new Vector(top, TagIndex.parseTags(source.tags), source.category);
+        vectors.put(source.postId, vector);
+        for (Map.Entry<String, Double> weight : top.entrySet()) {
+            postings.computeIfAbsent(weight.getKey(), t -> new HashMap<>()).put(source.postId, weight.getValue());
+        }
+    }
+    
+    private void publish(Long postId) {
+        List<Long> ids = new ArrayList<>();
+        for (Neighbour neighbour : neighbours.getOrDefault(postId, Collections.emptyList())) {
+            ids.add(neighbour.postId);
+        }
+        neighbourIds.put(postId, Collections.unmodifiableList(ids));
+    }
+    
+    // 유사도 계산 원본 (제목·태그에 가중치를 둔 토큰 빈도)
+    private static final class Source {
+        private final Long postId;
+        private final String tags;
+        private final String category;
+        private final Map<String, Double> termFrequencies = new HashMap<>();
+        
+        Source(Long postId, String title, String tags, String plainText, String category) {
+            this.postId = postId;
+            this.tags = tags;
+            this.category = category;
+            addTerms(title, TITLE_WEIGHT);
+            addTerms(tags, TAG_WEIGHT);
+            addTerms(plainText, 1.0);
+        }
+        
+        private void addTerms(String text, double weight) {
+            for (String token : Tokenizer.tokenize(text)) {
+                termFrequencies.merge(token, weight, Double::sum);
+            }
+        }
+    }
+    
+    private static final class Vector {
+        private final Map<String, Double> weights;
+        private final Set<String> tags;
+        private final String category;
+        
+        Vector(Map<String, Double> weights, Set<String> tags, String category) {
+            this.weights = weights;
+            this.tags = tags;
+            this.category = category;
+        }
+    }
+    
+    private static final class Neighbour {
+        private static final Comparator<Neighbour> BY_SCORE = Comparator.comparingDouble((Neighbour n) -> n.score).reversed()
+            .thenComparing(n -> n.postId, Comparator.reverseOrder());
+        
+        private final Long postId;
+        private final double score;
+        
+        Neighbour(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
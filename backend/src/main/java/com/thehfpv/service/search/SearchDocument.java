@@ -0,0 +1,90 @@
+package com.thehfpv.service.search;
+
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.util.HtmlText;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 역색인에 들어가는 게시글 문서 (필드별 토큰 빈도와 길이)
+ * 트랜잭션 안에서 만들어 두고 커밋 후 색인에 반영할 수 있도록 불변으로 유지한다.
+ */
+public final class SearchDocument {
+    
+    static final int TITLE = 0;
+    static final int TAGS = 1;
+    static final int CONTENT = 2;
+    static final int FIELD_COUNT = 3;
+    
+    private final Long postId;
+    private final String status;
+    private final LocalDateTime createdAt;
+    // 토큰 → 필드별 등장 횟수
+    private final Map<String, int[]> termFrequencies;
+    private final int[] fieldLengths;
+    
+    private SearchDocument(Long postId, String status, LocalDateTime createdAt,
+                           Map<String, int[]> termFrequencies, int[] fieldLengths) {
+        this.postId = postId;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.termFrequencies = termFrequencies;
+        this.fieldLengths = fieldLengths;
+    }
+    
+    public static SearchDocument of(BlogPost post) {
+        return of(post.getPostId(), post.getTitle(), post.getTags(), plainTextOf(post.getPlainText(), post.getContent()),
+            post.getStatus(), post.getCreatedAt());
+    }
+    
+    /**
+     * 게시글 필드로 문서 생성 (plainText는 HTML을 제거한 본문)
+     */
+    public static SearchDocument of(Long postId, String title, String tags, String plainText,
+                                    String status, LocalDateTime createdAt) {
+        Map<String, int[]> termFrequencies = new HashMap<>();
+        int[] fieldLengths = new int[FIELD_COUNT];
+        fieldLengths[TITLE] = addField(termFrequencies, TITLE, title);
+        fieldLengths[TAGS] = addField(termFrequencies, TAGS, tags);
+        fieldLengths[CONTENT] = addField(termFrequencies, CONTENT, plainText);
+        return new SearchDocument(postId, status, createdAt, termFrequencies, fieldLengths);
+    }
+    
+    /**
+     * 저장된 평문이 있으면 사용하고, 아직 파생되지 않은 게시글은 HTML에서 추출
+     */
+    public static String plainTextOf(String plainText, String html) {
+        return plainText != null ? plainText : HtmlText.toPlainText(html);
+    }
+    
+    private static int addField(Map<String, int[]> termFrequencies, int field, String text) {
+        int count = 0;
+        for (String token : Tokenizer.tokenizeForIndex(text)) {
+            termFrequencies.computeIfAbsent(token, t -> new int[FIELD_COUNT])[field]++;
+            count++;
+        }
+        return count;
+    }
+    
+    public Long getPostId() {
+        return postId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    Map<String, int[]> getTermFrequencies() {
+        return termFrequencies;
+    }
+    
+    int[] getFieldLengths() {
+        return fieldLengths;
+    }
+}
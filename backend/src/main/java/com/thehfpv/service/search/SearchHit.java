@@ -0,0 +1,31 @@
+package com.thehfpv.service.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 한 건 (게시글 ID, BM25 점수, 작성일)
+ */
+public final class SearchHit {
+    
+    private final Long postId;
+    private final double score;
+    private final LocalDateTime createdAt;
+    
+    public SearchHit(Long postId, double score, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.score = score;
+        this.createdAt = createdAt;
+    }
+    
+    public Long getPostId() {
+        return postId;
+    }
+    
+    public double getScore() {
+        return score;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,339 @@
+package com.thehfpv.service.search;
+
+import com.thehfpv.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 인메모리 역색인 (제목, 태그, HTML을 제거한 본문)
+ * 필드 가중치를 둔 BM25F로 점수를 매기고, 검색어의 모든 토큰을 포함한 게시글만 반환한다(AND).
+ * 라틴 문자/숫자 토큰은 접두사로도 일치시키고("spring" → "springboot"), CJK는 색인에 글자별
+ * unigram을 함께 넣어 한 글자 검색어도 찾는다.
+ * 시작 시 백그라운드에서 전체 게시글을 병렬로 토큰화해 색인을 만들고, 이후에는
+ * BlogService가 커밋한 변경을 put()/remove()로 반영한다. 색인이 준비되기 전에는
+ * isReady()가 false이며 호출 측이 DB 검색으로 대체한다.
+ */
+@Component
+public class SearchIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+    
+    // BM25 파라미터 및 필드 가중치 (제목, 태그, 본문)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double[] FIELD_WEIGHTS = {3.0, 2.0, 1.0};
+    
+    private static final int REBUILD_CHUNK_SIZE = 200;
+    
+    // 검색어 토큰 하나가 접두사로 확장되는 최대 토큰 수 (사전 순)
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private IndexData data = new IndexData();
+    
+    // 재구축 중 반영된 변경 (재구축 결과에 다시 적용, 값이 비어 있으면 삭제)
+    private final Map<Long, Optional<SearchDocument>> changedDuringRebuild = new HashMap<>();
+    private boolean rebuilding;
+    
+    private volatile boolean ready;
+    
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * 전체 게시글로 색인을 새로 구축하고 교체
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        try {
+            long start = System.currentTimeMillis();
+            IndexData rebuilt = new IndexData();
+            Long afterId = 0L;
+            while (true) {
+                List<Object[]> rows = blogPostRepository.findSearchRowsAfter(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                
+                // 토큰화는 병렬로, 색인 병합은 단일 스레드로
+                List<SearchDocument> documents = rows.parallelStream()
+                    .map(row -> SearchDocument.of((Long) row[0], (String) row[1], (String) row[2],
+                        SearchDocument.plainTextOf((String) row[3], (String) row[6]), (String) row[4], (LocalDateTime) row[5]))
+                    .collect(Collectors.toList());
+                for (SearchDocument document : documents) {
+                    rebuilt.put(document);
+                }
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+            
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Optional<SearchDocument>> change : changedDuringRebuild.entrySet()) {
+                    if (change.getValue().isPresent()) {
+                        rebuilt.put(change.getValue().get());
+                    } else {
+                        rebuilt.remove(change.getKey());
+                    }
+                }
+                data = rebuilt;
+                ready = true;
+            } finally {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+                lock.writeLock().unlock();
+            }
+            logger.info("Search index built: {} posts, {} terms in {} ms",
+                rebuilt.documents.size(), rebuilt.postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Search index rebuild failed, falling back to database search: {}", e.getMessage(), e);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 게시글 추가 또는 갱신
+     */
+    public void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            data.put(document);
+            if (rebuilding) {
+                changedDuringRebuild.put(document.getPostId(), Optional.of(document));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 게시글 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            data.remove(postId);
+            if (rebuilding) {
+                changedDuringRebuild.put(postId, Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 검색어의 모든 토큰을 포함한 게시글을 점수 내림차순(동점이면 최신 ID 우선)으로 반환
+     * includeDrafts가 false이면 PUBLISHED 게시글만 포함한다.
+     */
+    public List<SearchHit> search(String query, boolean includeDrafts) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        List<SearchHit> hits = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return hits;
+        }
+        
+        lock.readLock().lock();
+        try {
+            IndexData index = data;
+            
+            // 가장 희소한 토큰의 게시글 목록부터 교집합
+            List<Map<Long, int[]>> postingLists = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, int[]> postings = index.matching(term);
+                if (postings.isEmpty()) {
+                    return hits;
+                }
+                postingLists.add(postings);
+            }
+            postingLists.sort(Comparator.comparingInt(Map::size));
+            
+            int documentCount = index.documents.size();
+            double[] averageLengths = index.averageFieldLengths();
+            
+            for (Long postId : postingLists.get(0).keySet()) {
+                SearchDocument document = index.documents.get(postId);
+                if (!includeDrafts && !"PUBLISHED".equals(document.getStatus())) {
+                    continue;
+                }
+                
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, int[]> postings : postingLists) {
+                    int[] frequencies = postings.get(postId);
+                    if (frequencies == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += idf(documentCount, postings.size())
+                        * saturate(frequencies, document.getFieldLengths(), averageLengths);
+                }
+                if (matchesAll) {
+                    hits.add(new SearchHit(postId, score, document.getCreatedAt()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed()
+            .thenComparing(SearchHit::getPostId, Comparator.reverseOrder()));
+        return hits;
+    }
+    
+    private static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+    
+    // BM25F: 필드별 길이 정규화한 가중 빈도를 합친 뒤 한 번만 포화
+    private static double saturate(int[] frequencies, int[] fieldLengths, double[] averageLengths) {
+        double weighted = 0;
+        for (int field = 0; field < SearchDocument.FIELD_COUNT; field++) {
+            if (frequencies[field] == 0) {
+                continue;
+            }
+            double norm = 1 - B + B * (averageLengths[field] > 0 ? fieldLengths[field] / averageLengths[field] : 1);
+            weighted += FIELD_WEIGHTS[field] * frequencies[field] / norm;
+        }
+        return weighted * (K1 + 1) / (weighted + K1);
+    }
+    
+    // 색인 자료구조 (lock으로 보호)
+    private static final class IndexData {
+        // 접두사 확장을 위해 토큰 사전 순으로 정렬
+        private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+        private final Map<Long, SearchDocument> documents = new HashMap<>();
+        private final long[] totalFieldLengths = new long[SearchDocument.FIELD_COUNT];
+        
+        void put(SearchDocument document) {
+            remove(document.getPostId());
+            documents.put(document.getPostId(), document);
+            for (Map.Entry<String, int[]> entry : document.getTermFrequencies().entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(document.getPostId(), entry.getValue());
+            }
+            for (int field = 0; field < SearchDocument.FIELD_COUNT; field++) {
+                totalFieldLengths[field] += document.getFieldLengths()[field];
+            }
+        }
+        
+        void remove(Long postId) {
+            SearchDocument existing = documents.remove(postId);
+            if (existing == null) {
+                return;
+            }
+            for (String term : existing.getTermFrequencies().keySet()) {
+                Map<Long, int[]> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(postId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            for (int field = 0; field < SearchDocument.FIELD_COUNT; field++) {
+                totalFieldLengths[field] -= existing.getFieldLengths()[field];
+            }
+        }
+        
+        /**
+         * 검색어 토큰과 일치하는 게시글별 필드 빈도
+         * CJK 토큰은 정확히 일치하는 토큰만, 그 외에는 토큰으로 시작하는 색인 토큰을 최대
+         * MAX_PREFIX_EXPANSIONS개까지 합친다 (같은 게시글의 빈도는 필드별로 더함).
+         */
+        Map<Long, int[]> matching(String term) {
+            if (Tokenizer.isCjk(term.codePointAt(0))) {
+                Map<Long, int[]> exact = postings.get(term);
+                return exact != null ? exact : Collections.emptyMap();
+            }
+            
+            Map<Long, int[]> merged = null;
+            Map<Long, int[]> single = null;
+            int expansions = 0;
+            for (Map<Long, int[]> termPostings : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                if (single == null) {
+                    single = termPostings;
+                    continue;
+                }
+                if (merged == null) {
+                    merged = new HashMap<>();
+                    addPostings(merged, single);
+                }
+                addPostings(merged, termPostings);
+            }
+            if (merged != null) {
+                return merged;
+            }
+            return single != null ? single : Collections.emptyMap();
+        }
+        
+        private static void addPostings(Map<Long, int[]> merged, Map<Long, int[]> termPostings) {
+            for (Map.Entry<Long, int[]> entry : termPostings.entrySet()) {
+                int[] frequencies = merged.computeIfAbsent(entry.getKey(), id -> new int[SearchDocument.FIELD_COUNT]);
+                for (int field = 0; field < SearchDocument.FIELD_COUNT; field++) {
+                    frequencies[field] += entry.getValue()[field];
+                }
+            }
+        }
+        
+        double[] averageFieldLengths() {
+            double[] averages = new double[SearchDocument.FIELD_COUNT];
+            if (documents.isEmpty()) {
+                return averages;
+            }
+            for (int field = 0; field < SearchDocument.FIELD_COUNT; field++) {
+                averages[field] = (double) totalFieldLengths[field] / documents.size();
+            }
+            return averages;
+        }
+    }
+}
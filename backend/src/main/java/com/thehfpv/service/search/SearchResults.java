@@ -0,0 +1,24 @@
+package com.thehfpv.service.search;
+
+/**
+ * 검색 결과 페이지와, 같은 검색의 전체 일치 게시글 중 공개 게시글에 대한 카테고리/태그 패싯
+ * 패싯은 페이지를 만든 검색 결과로 함께 계산하며, 색인이 준비되기 전에는 null이다.
+ */
+public final class SearchResults<T> {
+    
+    private final T results;
+    private final Facets facets;
+    
+    public SearchResults(T results, Facets facets) {
+        this.results = results;
+        this.facets = facets;
+    }
+    
+    public T getResults() {
+        return results;
+    }
+    
+    public Facets getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,415 @@
+package com.thehfpv.service.search;
+
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색창 자동완성용 접두사 색인
+ * 공개 게시글의 제목(각 단어 시작 위치 포함), 태그, 카테고리를 trie에 넣고 노드마다
+ * 인기순 상위 후보를 미리 계산해 둔다. 조회는 접두사 길이만큼 노드를 따라가는 것이 전부이다.
+ * 키는 앞 MAX_KEY_LENGTH자까지만 등록하여 게시글당 노드 수를 단어 수에 비례하도록 제한하고,
+ * 그보다 긴 접두사는 마지막 노드의 후보를 전체 접두사로 걸러낸다.
+ * 태그는 태그 색인과 같은 방식으로 정규화하여 대소문자만 다른 태그를 하나로 합친다.
+ * 게시글 변경 시에는 바뀐 후보의 키 경로에 있는 노드의 상위 후보만 다시 계산한다.
+ * 인기도(조회수 + 좋아요 × 5)는 주기적인 전체 재적재로 갱신한다.
+ */
+@Component
+public class SuggestIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SuggestIndex.class);
+    
+    // 노드별로 보관하는 상위 후보 수 (요청 limit의 최대값)
+    public static final int MAX_SUGGESTIONS = 10;
+    
+    // trie에 등록하는 키의 최대 길이
+    static final int MAX_KEY_LENGTH = 20;
+    
+    private static final int LIKE_WEIGHT = 5;
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private Trie trie = new Trie();
+    
+    // 재적재 중 반영된 변경 (재적재 결과에 다시 적용, 값이 비어 있으면 삭제)
+    private final Map<Long, Optional<Entry>> changedDuringReload = new HashMap<>();
+    private boolean reloading;
+    
+    /**
+     * 시작 시 및 주기적으로 전체 공개 게시글 재적재 (인기도 갱신)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${blog.suggest.refresh-interval-ms:600000}",
+               fixedDelayString = "${blog.suggest.refresh-interval-ms:600000}")
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            reloading = true;
+            changedDuringReload.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        try {
+            Trie loaded = new Trie();
+            for (Object[] row : blogPostRepository.findSuggestRows()) {
+                Long postId = (Long) row[0];
+                loaded.entries.put(postId, new Entry(postId, (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], popularity((Long) row[5], (Long) row[6])));
+            }
+            loaded.build();
+            
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Optional<Entry>> change : changedDuringReload.entrySet()) {
+                    if (change.getValue().isPresent()) {
+                        loaded.put(change.getValue().get());
+                    } else {
+                        loaded.remove(change.getKey());
+                    }
+                }
+                trie = loaded;
+            } finally {
+                reloading = false;
+                changedDuringReload.clear();
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                reloading = false;
+                changedDuringReload.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.warn("Suggest index reload failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 게시글 변경 반영 (공개 상태가 아니면 제거)
+     */
+    public void put(BlogPost post) {
+        Entry entry = "PUBLISHED".equals(post.getStatus())
+            ? new Entry(post.getPostId(), post.getTitle(), post.getSlug(), post.getTags(), post.getCategory(),
+                popularity(post.getViewCount(), post.getLikeCount()))
+            : null;
+        lock.writeLock().lock();
+        try {
+            if (entry != null) {
+                trie.put(entry);
+            } else {
+                trie.remove(post.getPostId());
+            }
+            if (reloading) {
+                changedDuringReload.put(post.getPostId(), Optional.ofNullable(entry));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 삭제된 게시글 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            trie.remove(postId);
+            if (reloading) {
+                changedDuringReload.put(postId, Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 접두사로 시작하는 후보를 인기순으로 최대 limit개 반환
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        
+        String key = normalize(prefix);
+        List<Suggestion> top;
+        lock.readLock().lock();
+        try {
+            Node node = trie.root;
+            for (int i = 0; i < Math.min(key.length(), MAX_KEY_LENGTH) && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            top = key.length() > MAX_KEY_LENGTH ? matchingTerminals(node, key) : node.top;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+    
+    // 최대 길이 노드에는 하위 노드가 없으므로, 그 노드의 후보 중 전체 접두사로 시작하는 것만 인기순으로 반환
+    private static List<Suggestion> matchingTerminals(Node node, String key) {
+        List<Suggestion> matches = new ArrayList<>();
+        for (Suggestion candidate : node.terminals) {
+            String text = normalize(candidate.getText());
+            if (text.startsWith(key) || text.contains(" " + key)) {
+                matches.add(candidate);
+            }
+        }
+        matches.sort(Comparator.comparingLong(Suggestion::getPopularity).reversed()
+            .thenComparing(Suggestion::getText));
+        return matches.subList(0, Math.min(MAX_SUGGESTIONS, matches.size()));
+    }
+    
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+    
+    // 정규화한 텍스트의 앞 MAX_KEY_LENGTH자
+    private static String keyOf(String text) {
+        String normalized = normalize(text);
+        return normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+    }
+    
+    private static long popularity(Long viewCount, Long likeCount) {
+        long views = viewCount != null ? viewCount : 0L;
+        long likes = likeCount != null ? likeCount : 0L;
+        return views + likes * LIKE_WEIGHT;
+    }
+    
+    // 제목 전체와 각 단어 시작 위치에서 검색되도록 등록할 키 (최대 MAX_KEY_LENGTH자)
+    private static Set<String> titleKeys(String title) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (title == null || title.isBlank()) {
+            return keys;
+        }
+        String normalized = normalize(title);
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        return keys;
+    }
+    
+    // 노드의 후보와 하위 노드의 상위 후보를 합쳐 상위 MAX_SUGGESTIONS개 계산
+    private static void updateTop(Node node) {
+        List<Suggestion> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(Comparator.comparingLong(Suggestion::getPopularity).reversed()
+            .thenComparing(Suggestion::getText));
+        
+        // 같은 후보가 여러 경로(단어 시작 위치)로 들어올 수 있으므로 중복 제거
+        Map<String, Suggestion> unique = new LinkedHashMap<>();
+        for (Suggestion candidate : candidates) {
+            String identity = candidate.getType() + ":" + (candidate.getPostId() != null ? candidate.getPostId() : candidate.getText());
+            unique.putIfAbsent(identity, candidate);
+            if (unique.size() == MAX_SUGGESTIONS) {
+                break;
+            }
+        }
+        node.top = Collections.unmodifiableList(new ArrayList<>(unique.values()));
+    }
+    
+    /**
+     * 자동완성 원본 데이터와 trie (SuggestIndex의 잠금 안에서만 접근)
+     */
+    private static final class Trie {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final Map<String, Long> tagPopularity = new HashMap<>();
+        private final Map<String, Long> categoryPopularity = new HashMap<>();
+        private final Node root = new Node(null, '\0');
+        
+        // entries 전체로 trie 구성 (재적재 시 한 번)
+        void build() {
+            for (Entry entry : entries.values()) {
+                Suggestion suggestion = entry.titleSuggestion();
+                for (String key : titleKeys(entry.title)) {
+                    node(key).terminals.add(suggestion);
+                }
+                forEachLabel(entry, (labels, type, label) -> labels.merge(label, entry.popularity + 1, Long::sum));
+            }
+            for (Map.Entry<String, Long> tag : tagPopularity.entrySet()) {
+                node(keyOf(tag.getKey())).terminals.add(
+                    new Suggestion(tag.getKey(), Suggestion.TYPE_TAG, null, null, tag.getValue()));
+            }
+            for (Map.Entry<String, Long> category : categoryPopularity.entrySet()) {
+                node(keyOf(category.getKey())).terminals.add(
+                    new Suggestion(category.getKey(), Suggestion.TYPE_CATEGORY, null, null, category.getValue()));
+            }
+            computeTop(root);
+        }
+        
+        void put(Entry entry) {
+            Set<Node> touched = new HashSet<>();
+            Entry previous = entries.put(entry.postId, entry);
+            if (previous != null) {
+                unindex(previous, touched);
+            }
+            index(entry, touched);
+            refresh(touched);
+        }
+        
+        void remove(Long postId) {
+            Entry previous = entries.remove(postId);
+            if (previous != null) {
+                Set<Node> touched = new HashSet<>();
+                unindex(previous, touched);
+                refresh(touched);
+            }
+        }
+        
+        private void index(Entry entry, Set<Node> touched) {
+            Suggestion suggestion = entry.titleSuggestion();
+            for (String key : titleKeys(entry.title)) {
+                Node node = node(key);
+                node.terminals.add(suggestion);
+                touched.add(node);
+            }
+            forEachLabel(entry, (labels, type, label) -> relabel(labels, type, label, entry.popularity + 1, touched));
+        }
+        
+        private void unindex(Entry entry, Set<Node> touched) {
+            for (String key : titleKeys(entry.title)) {
+                Node node = node(key);
+                node.terminals.removeIf(s -> Suggestion.TYPE_TITLE.equals(s.getType()) && entry.postId.equals(s.getPostId()));
+                touched.add(node);
+            }
+            forEachLabel(entry, (labels, type, label) -> relabel(labels, type, label, -(entry.popularity + 1), touched));
+        }
+        
+        // 태그/카테고리의 합산 인기도를 바꾸고 해당 노드의 후보 교체 (0이 되면 제거)
+        private void relabel(Map<String, Long> labels, String type, String label, long delta, Set<Node> touched) {
+            long popularity = labels.getOrDefault(label, 0L) + delta;
+            Node node = node(keyOf(label));
+            node.terminals.removeIf(s -> type.equals(s.getType()) && label.equals(s.getText()));
+            if (popularity > 0) {
+                labels.put(label, popularity);
+                node.terminals.add(new Suggestion(label, type, null, null, popularity));
+            } else {
+                labels.remove(label);
+            }
+            touched.add(node);
+        }
+        
+        private void forEachLabel(Entry entry, LabelAction action) {
+            for (String tag : TagIndex.parseTags(entry.tags)) {
+                action.apply(tagPopularity, Suggestion.TYPE_TAG, tag);
+            }
+            if (entry.category != null && !entry.category.isBlank()) {
+                action.apply(categoryPopularity, Suggestion.TYPE_CATEGORY, entry.category.trim());
+            }
+        }
+        
+        // 키 경로의 노드 (없으면 생성)
+        private Node node(String key) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                Node parent = node;
+                node = node.children.computeIfAbsent(c, k -> new Node(parent, c));
+            }
+            return node;
+        }
+        
+        // 바뀐 노드와 그 조상의 상위 후보를 깊은 노드부터 다시 계산하고, 비게 된 노드는 떼어냄
+        private void refresh(Set<Node> touched) {
+            TreeMap<Integer, Set<Node>> byDepth = new TreeMap<>(Comparator.reverseOrder());
+            for (Node node : touched) {
+                for (Node n = node; n != null; n = n.parent) {
+                    if (!byDepth.computeIfAbsent(n.depth, d -> new HashSet<>()).add(n)) {
+                        break;
+                    }
+                }
+            }
+            for (Set<Node> nodes : byDepth.values()) {
+                for (Node node : nodes) {
+                    if (node.parent != null && node.terminals.isEmpty() && node.children.isEmpty()) {
+                        node.parent.children.remove(node.key);
+                    } else {
+                        updateTop(node);
+                    }
+                }
+            }
+        }
+        
+        // 하위 노드부터 전체 상위 후보 계산 (후위 순회)
+        private static void computeTop(Node node) {
+            for (Node child : node.children.values()) {
+                computeTop(child);
+            }
+            updateTop(node);
+        }
+    }
+    
+    private interface LabelAction {
+        void apply(Map<String, Long> labels, String type, String label);
+    }
+    
+    private static final class Node {
+        private final Node parent;
+        private final char key;
+        private final int depth;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Suggestion> terminals = new ArrayList<>();
+        private List<Suggestion> top = Collections.emptyList();
+        
+        Node(Node parent, char key) {
+            this.parent = parent;
+            this.key = key;
+            this.depth = parent != null ? parent.depth + 1 : 0;
+        }
+    }
+    
+    private static final class Entry {
+        private final Long postId;
+        private final String title;
+        private final String slug;
+        private final String tags;
+        private final String category;
+        private final long popularity;
+        
+        Entry(Long postId, String title, String slug, String tags, String category, long popularity) {
+            this.postId = postId;
+            this.title = title;
+            this.slug = slug;
+            this.tags = tags;
+            this.category = category;
+            this.popularity = popularity;
+        }
+        
+        Suggestion titleSuggestion() {
+            return new Suggestion(title, Suggestion.TYPE_TITLE, postId, slug, popularity);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.thehfpv.service.search;
+
+/**
+ * 자동완성 후보 (게시글 제목, 태그, 카테고리)
+ * 제목 후보는 해당 게시글의 ID와 slug를 함께 가진다.
+ */
+public final class Suggestion {
+    
+    public static final String TYPE_TITLE = "title";
+    public static final String TYPE_TAG = "tag";
+    public static final String TYPE_CATEGORY = "category";
+    
+    private final String text;
+    private final String type;
+    private final Long postId;
+    private final String slug;
+    private final long popularity;
+    
+    public Suggestion(String text, String type, Long postId, String slug, long popularity) {
+        this.text = text;
+        this.type = type;
+        this.postId = postId;
+        this.slug = slug;
+        this.popularity = popularity;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public Long getPostId() {
+        return postId;
+    }
+    
+    public String getSlug() {
+        return slug;
+    }
+    
+    public long getPopularity() {
+        return popularity;
+    }
+}
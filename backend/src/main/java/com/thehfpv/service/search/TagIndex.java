@@ -0,0 +1,222 @@
+package com.thehfpv.service.search;
+
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.repository.BlogPostRepository;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그별 공개 게시글 비트맵 색인
+ * BlogPost.tags(쉼표 구분 문자열)를 정규화한 태그마다 게시글 ID의 압축 비트맵(Roaring)을
+ * 유지하여 AND/OR 태그 필터를 비트맵 교집합/합집합으로 처리한다.
+ * 공개(PUBLISHED) 게시글만 포함한다.
+ */
+@Component
+public class TagIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TagIndex.class);
+    
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 정규화된 태그 → 게시글 ID 비트맵
+    private final Map<String, RoaringBitmap> postingLists = new HashMap<>();
+    
+    // 게시글 ID → 정규화된 태그 (갱신/삭제 시 이전 태그 제거용)
+    private final Map<Long, Set<String>> tagsByPost = new HashMap<>();
+    
+    // 적재 중 반영된 변경 (적재 결과에 다시 적용, 값이 비어 있으면 제거)
+    private final Map<Long, Optional<Set<String>>> changedDuringLoad = new HashMap<>();
+    private boolean loading;
+    
+    /**
+     * 시작 시 공개 게시글의 태그로 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            changedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        try {
+            List<Object[]> rows = blogPostRepository.findPublishedTagRows();
+            lock.writeLock().lock();
+            try {
+                postingLists.clear();
+                tagsByPost.clear();
+                for (Object[] row : rows) {
+                    add((Long) row[0], parseTags((String) row[1]));
+                }
+                for (Map.Entry<Long, Optional<Set<String>>> change : changedDuringLoad.entrySet()) {
+                    removeInternal(change.getKey());
+                    change.getValue().ifPresent(tags -> add(change.getKey(), tags));
+                }
+            } finally {
+                loading = false;
+                changedDuringLoad.clear();
+                lock.writeLock().unlock();
+            }
+            logger.info("Tag index built: {} tags over {} posts", postingLists.size(), tagsByPost.size());
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                changedDuringLoad.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Tag index load failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 게시글 변경 반영 (공개 상태가 아니면 제거)
+     */
+    public void put(BlogPost post) {
+        Set<String> tags = "PUBLISHED".equals(post.getStatus()) ? parseTags(post.getTags()) : null;
+        lock.writeLock().lock();
+        try {
+            removeInternal(post.getPostId());
+            if (tags != null) {
+                add(post.getPostId(), tags);
+            }
+            if (loading) {
+                changedDuringLoad.put(post.getPostId(), Optional.ofNullable(tags));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 삭제된 게시글 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            if (loading) {
+                changedDuringLoad.put(postId, Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * allTags를 모두 가지고(AND), anyTags 중 하나 이상을 가진(OR) 게시글 ID (최신 ID 우선)
+     * 두 조건 중 비어 있는 쪽은 무시한다.
+     */
+    public List<Long> findPostIds(Collection<String> allTags, Collection<String> anyTags) {
+        RoaringBitmap result = null;
+        
+        lock.readLock().lock();
+        try {
+            for (String tag : allTags) {
+                RoaringBitmap bitmap = postingLists.get(normalize(tag));
+                if (bitmap == null) {
+                    return new ArrayList<>();
+                }
+                result = result == null ? bitmap.clone() : RoaringBitmap.and(result, bitmap);
+            }
+            
+            if (!anyTags.isEmpty()) {
+                RoaringBitmap union = new RoaringBitmap();
+                for (String tag : anyTags) {
+                    RoaringBitmap bitmap = postingLists.get(normalize(tag));
+                    if (bitmap != null) {
+                        union.or(bitmap);
+                    }
+                }
+                result = result == null ? union : RoaringBitmap.and(result, union);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        List<Long> postIds = new ArrayList<>();
+        if (result != null) {
+            IntIterator iterator = result.getReverseIntIterator();
+            while (iterator.hasNext()) {
+                postIds.add((long) iterator.next());
+            }
+        }
+        return postIds;
+    }
+    
+    /**
+     * 쉼표로 구분된 태그 문자열을 정규화된 태그 목록으로 분리 (중복 제거)
+     */
+    public static Set<String> parseTags(String tags) {
+        Set<String> parsed = new LinkedHashSet<>();
+        if (tags == null || tags.isBlank()) {
+            return parsed;
+        }
+        for (String tag : tags.split(",")) {
+            String normalized = normalize(tag);
+            if (!normalized.isEmpty()) {
+                parsed.add(normalized);
+            }
+        }
+        return parsed;
+    }
+    
+    /**
+     * 태그 정규화 (앞뒤 공백 제거, 소문자, 연속 공백 하나로)
+     */
+    public static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+    
+    private void add(Long postId, Set<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        int id = Math.toIntExact(postId);
+        for (String tag : tags) {
+            postingLists.computeIfAbsent(tag, t -> new RoaringBitmap()).add(id);
+        }
+        tagsByPost.put(postId, tags);
+    }
+    
+    private void removeInternal(Long postId) {
+        Set<String> tags = tagsByPost.remove(postId);
+        if (tags == null) {
+            return;
+        }
+        int id = Math.toIntExact(postId);
+        for (String tag : tags) {
+            RoaringBitmap bitmap = postingLists.get(tag);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    postingLists.remove(tag);
+                }
+            }
+        }
+    }
+}
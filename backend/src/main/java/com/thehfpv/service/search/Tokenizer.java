@@ -0,0 +1,99 @@
+package com.thehfpv.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * 라틴 문자/숫자는 단어 단위로, 한글·한자·가나처럼 띄어쓰기로 형태소를 나눌 수 없는
+ * 문자열은 글자 bigram으로 분리한다. ("검색엔진" → "검색", "색엔", "엔진")
+ * 한 글자짜리 CJK 토큰은 그대로 unigram으로 남긴다.
+ * 색인용 토큰(tokenizeForIndex)은 CJK 글자마다 unigram도 함께 만들어 한 글자 검색어도 찾을 수 있게 한다.
+ */
+public final class Tokenizer {
+    
+    private Tokenizer() {
+    }
+    
+    /**
+     * 텍스트를 소문자 토큰 목록으로 분리 (중복 포함, 등장 순서 유지)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+    
+    /**
+     * 색인용 토큰 목록 (tokenize 결과에 CJK 글자별 unigram 추가)
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+    
+    private static List<String> tokenize(String text, boolean cjkUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = lower.codePointAt(i);
+            if (isCjk(codePoint)) {
+                i = readCjkRun(lower, i, tokens, cjkUnigrams);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int start = i;
+                while (i < length) {
+                    int cp = lower.codePointAt(i);
+                    if (!Character.isLetterOrDigit(cp) || isCjk(cp)) {
+                        break;
+                    }
+                    i += Character.charCount(cp);
+                }
+                tokens.add(lower.substring(start, i));
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * CJK 문자 여부 (한글, 한자, 히라가나, 가타카나)
+     */
+    public static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+    
+    // 연속된 CJK 문자열을 bigram(unigrams가 true면 글자별 unigram 포함)으로 분리하고 다음 위치 반환
+    private static int readCjkRun(String text, int start, List<String> tokens, boolean unigrams) {
+        List<String> chars = new ArrayList<>();
+        int i = start;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            if (!isCjk(cp)) {
+                break;
+            }
+            chars.add(new String(Character.toChars(cp)));
+            i += Character.charCount(cp);
+        }
+        
+        if (chars.size() == 1) {
+            tokens.add(chars.get(0));
+        } else {
+            if (unigrams) {
+                tokens.addAll(chars);
+            }
+            for (int j = 0; j + 1 < chars.size(); j++) {
+                tokens.add(chars.get(j) + chars.get(j + 1));
+            }
+        }
+        return i;
+    }
+}
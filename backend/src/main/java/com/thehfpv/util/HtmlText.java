@@ -0,0 +1,57 @@
+package com.thehfpv.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * TinyMCE HTML 본문을 평문으로 다루기 위한 유틸리티
+ */
+public final class HtmlText {
+    
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1\\s*>");
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    private HtmlText() {
+    }
+    
+    /**
+     * HTML 태그를 제거하고 기본 엔티티를 디코딩한 평문 반환
+     */
+    public static String toPlainText(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        
+        String text = SCRIPT_OR_STYLE.matcher(html).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = text.replace("&nbsp;", " ")
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&#39;", "'")
+            .replace("&amp;", "&");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+    
+    /**
+     * HTML 본문에서 최대 maxLength 글자의 요약문 생성 (단어 경계에서 자름)
+     */
+    public static String excerpt(String html, int maxLength) {
+        return truncate(toPlainText(html), maxLength);
+    }
+    
+    /**
+     * 평문을 최대 maxLength 글자로 자름 (단어 경계 우선, 말줄임표 포함)
+     */
+    public static String truncate(String text, int maxLength) {
+        if (text == null || text.length() <= maxLength) {
+            return text;
+        }
+        
+        int cut = text.lastIndexOf(' ', maxLength - 1);
+        if (cut < maxLength / 2) {
+            cut = maxLength - 1;
+        }
+        return text.substring(0, cut).trim() + "…";
+    }
+}
@@ -0,0 +1,97 @@
+package com.thehfpv.util;
+
+/**
+ * 고유 원소 수를 근사하는 HyperLogLog 스케치 (정밀도 p=12, 레지스터 4096개)
+ * 64비트 해시를 넣으면 크기는 항상 4KB로 고정되고, 같은 해시 함수로 만든 스케치끼리는
+ * 레지스터별 최댓값으로 합칠 수 있어 여러 날짜의 고유 방문자 수를 재계산 없이 구할 수 있다.
+ * 표준 오차는 1.04/√4096 ≈ 1.6%이며, 약 95%의 경우 오차가 ±3.3% 이내이다.
+ * 작은 값(레지스터의 0이 많은 구간)은 선형 카운팅으로 보정한다.
+ */
+public final class HyperLogLog {
+    
+    public static final int PRECISION = 12;
+    
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    // 표준 오차 1.04/√m
+    public static final double STANDARD_ERROR = 1.04 / Math.sqrt(REGISTER_COUNT);
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    
+    private final byte[] registers;
+    
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+    
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+    
+    /**
+     * 64비트 해시 추가 (상위 p비트는 레지스터 선택, 나머지는 선행 0의 개수)
+     */
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        long rest = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * 다른 스케치를 합침 (두 집합의 합집합 스케치가 됨)
+     */
+    public void merge(HyperLogLog other) {
+        byte[] otherRegisters = other.registers;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (otherRegisters[i] > registers[i]) {
+                registers[i] = otherRegisters[i];
+            }
+        }
+    }
+    
+    /**
+     * 고유 원소 수 추정값
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            // 선형 카운팅
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+    
+    /**
+     * 저장용 바이트 배열 (첫 바이트는 정밀도, 이후 레지스터)
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[REGISTER_COUNT + 1];
+        bytes[0] = PRECISION;
+        System.arraycopy(registers, 0, bytes, 1, REGISTER_COUNT);
+        return bytes;
+    }
+    
+    /**
+     * toBytes()로 저장한 스케치 복원 (형식이 다르면 null)
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT + 1 || bytes[0] != PRECISION) {
+            return null;
+        }
+        byte[] registers = new byte[REGISTER_COUNT];
+        System.arraycopy(bytes, 1, registers, 0, REGISTER_COUNT);
+        return new HyperLogLog(registers);
+    }
+}
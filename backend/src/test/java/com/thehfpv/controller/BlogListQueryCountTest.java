@@ -0,0 +1,130 @@
+package com.thehfpv.controller;
+
+import com.thehfpv.model.BlogLike;
+import com.thehfpv.model.BlogPost;
+import com.thehfpv.model.User;
+import com.thehfpv.model.UserRole;
+import com.thehfpv.repository.BlogLikeRepository;
+import com.thehfpv.repository.UserRepository;
+import com.thehfpv.security.AuthenticatedUser;
+import com.thehfpv.service.BlogService;
+import com.thehfpv.service.search.SearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록/카테고리/검색 페이지가 페이지 크기와 무관하게 고정된 수의 SQL 문으로 처리되는지 검증
+ * (페이지 조회 + 개수 조회 + 좋아요 집계 1회, 게시글마다 좋아요 조회를 반복하지 않음)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BlogListQueryCountTest {
+
+    private static final String CATEGORY = "drone";
+    private static final String KEYWORD = "quadcopter";
+    private static final int POST_COUNT = 25;
+
+    // 페이지 쿼리, 개수 쿼리, 좋아요 집계 쿼리
+    private static final long MAX_STATEMENTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlogLikeRepository blogLikeRepository;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AuthenticatedUser reader;
+
+    @BeforeAll
+    void seed() throws InterruptedException {
+        User author = userRepository.save(new User("author@thehfpv.test", "password", UserRole.ADMIN));
+        User user = userRepository.save(new User("reader@thehfpv.test", "password", UserRole.PUBLIC));
+        reader = AuthenticatedUser.of(user);
+
+        for (int i = 1; i <= POST_COUNT; i++) {
+            BlogPost post = new BlogPost(KEYWORD + " build log " + i, "<p>Notes on " + KEYWORD + " build " + i + "</p>",
+                CATEGORY, author);
+            post.setStatus("PUBLISHED");
+            post.setPublishedAt(LocalDateTime.now().minusMinutes(POST_COUNT - i));
+            BlogPost saved = blogService.createPost(post);
+            if (i % 2 == 0) {
+                blogLikeRepository.save(new BlogLike(saved, user));
+            }
+        }
+
+        // 검색 색인은 시작 시 별도 스레드에서 만들어지므로 준비될 때까지 대기
+        for (int i = 0; i < 100 && !searchIndex.isReady(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(searchIndex.isReady(), "search index was not built");
+    }
+
+    @Test
+    void listPageUsesFixedNumberOfStatements() throws Exception {
+        assertFixedStatementCount("/blog/posts");
+    }
+
+    @Test
+    void categoryPageUsesFixedNumberOfStatements() throws Exception {
+        assertFixedStatementCount("/blog/posts/category/" + CATEGORY);
+    }
+
+    @Test
+    void searchPageUsesFixedNumberOfStatements() throws Exception {
+        assertFixedStatementCount("/blog/posts/search?keyword=" + KEYWORD);
+    }
+
+    private void assertFixedStatementCount(String url) throws Exception {
+        long small = countStatements(url, 5);
+        long large = countStatements(url, 20);
+
+        assertEquals(small, large, "statement count grew with page size for " + url);
+        assertTrue(small <= MAX_STATEMENTS, url + " used " + small + " statements");
+    }
+
+    private long countStatements(String url, int size) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String separator = url.contains("?") ? "&" : "?";
+        mockMvc.perform(get(url + separator + "size=" + size)
+                .with(authentication(new UsernamePasswordAuthenticationToken(reader, null, reader.getAuthorities()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts.length()").value(size));
+
+        return statistics.getPrepareStatementCount();
+    }
+}
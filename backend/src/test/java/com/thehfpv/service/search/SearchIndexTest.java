@@ -0,0 +1,60 @@
+package com.thehfpv.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 인메모리 검색 색인의 부분 검색어 일치 검증 (라틴 접두사, 한 글자 CJK)
+ */
+class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+        put(1L, "Getting started with SpringBoot", "<p>Auto configuration notes</p>");
+        put(2L, "검색 엔진 만들기", "역색인과 점수 계산");
+        put(3L, "드론 조립 후기", "프레임과 모터 선택");
+        put(4L, "Spring security basics", "Filters and tokens");
+    }
+
+    @Test
+    void latinTermMatchesTokensItPrefixes() {
+        assertEquals(List.of(1L, 4L), sortedIds("spring"));
+        assertEquals(List.of(1L), sortedIds("springb"));
+        assertEquals(List.of(4L), sortedIds("spring sec"));
+    }
+
+    @Test
+    void singleCjkCharacterMatchesInsideBigrams() {
+        assertEquals(List.of(2L), sortedIds("검"));
+        // 연속 문자열의 마지막 글자
+        assertEquals(List.of(3L), sortedIds("립"));
+        assertEquals(List.of(2L), sortedIds("색인"));
+    }
+
+    @Test
+    void unmatchedTermReturnsNothing() {
+        assertTrue(searchIndex.search("quadcopter", true).isEmpty());
+        assertTrue(searchIndex.search("검 quadcopter", true).isEmpty());
+    }
+
+    private void put(Long postId, String title, String plainText) {
+        searchIndex.put(SearchDocument.of(postId, title, null, plainText, "PUBLISHED", LocalDateTime.now()));
+    }
+
+    private List<Long> sortedIds(String query) {
+        return searchIndex.search(query, false).stream()
+            .map(SearchHit::getPostId)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}
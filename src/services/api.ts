@@ -90,7 +90,7 @@ class ApiService {
           content: post.content,
           category: post.category,
           date: post.createdAt,
-          readTime: this.calculateReadTime(post.content),
+          readTime: this.calculateReadTime(post.content, post.readingMinutes),
           author: (post.author?.firstName || '') + (post.author?.lastName ? ' ' + post.author.lastName : '') || 'Unknown',
           tags: post.tags ? post.tags.split(',').map((tag: string) => tag.trim()) : [],
           featured: post.featured || false,
@@ -149,8 +149,15 @@ class ApiService {
     }
   }
 
-  // Calculate read time based on content length
-  private calculateReadTime(content: string): string {
+  // Calculate read time: prefer the server-derived reading minutes, else estimate from content
+  // (list endpoints no longer send content, so fall back to the shortest estimate)
+  private calculateReadTime(content?: string, readingMinutes?: number): string {
+    if (readingMinutes) {
+      return `${readingMinutes} min`;
+    }
+    if (!content) {
+      return '1 min';
+    }
     const wordsPerMinute = 200;
     const wordCount = content.split(' ').length;
     const minutes = Math.ceil(wordCount / wordsPerMinute);
@@ -212,7 +219,7 @@ class ApiService {
           content: result.content,
           category: result.category,
           date: result.createdAt,
-          readTime: this.calculateReadTime(result.content),
+          readTime: this.calculateReadTime(result.content, result.readingMinutes),
           author: (result.author?.firstName || '') + (result.author?.lastName ? ' ' + result.author.lastName : '') || 'Unknown',
           tags: result.tags ? result.tags.split(',').map((tag: string) => tag.trim()) : [],
           featured: result.featured || false,
@@ -293,7 +300,7 @@ class ApiService {
           content: post.content,
           category: post.category,
           date: post.createdAt,
-          readTime: this.calculateReadTime(post.content),
+          readTime: this.calculateReadTime(post.content, post.readingMinutes),
           author: (post.author?.firstName || '') + (post.author?.lastName ? ' ' + post.author.lastName : '') || 'Unknown',
           tags: post.tags ? post.tags.split(',').map((tag: string) => tag.trim()) : [],
           featured: post.featured || false,
@@ -353,7 +360,7 @@ class ApiService {
           content: post.content,
           category: post.category,
           date: post.createdAt,
-          readTime: this.calculateReadTime(post.content),
+          readTime: this.calculateReadTime(post.content, post.readingMinutes),
           author: (post.author?.firstName || '') + (post.author?.lastName ? ' ' + post.author.lastName : '') || 'Unknown',
           tags: post.tags ? post.tags.split(',').map((tag: string) => tag.trim()) : [],
           featured: post.featured || false,
@@ -389,6 +396,50 @@ class ApiService {
     }
   }
 
+  // Get related posts (content similarity, most similar first)
+  async getRelatedPosts(postId: number, limit: number = 3): Promise<BlogPost[]> {
+    try {
+      const response = await fetch(`${this.baseURL}/blog/posts/${postId}/related?limit=${limit}`, {
+        method: 'GET',
+        headers: this.getAuthHeaders(),
+        credentials: 'include'
+      });
+
+      if (!response.ok) {
+        throw new Error(`HTTP error! status: ${response.status}`);
+      }
+
+      const result = await response.json();
+      
+      if (result.success) {
+        // Transform backend data to frontend format
+        return result.posts.map((post: any) => ({
+          id: post.postId,
+          title: post.title,
+          excerpt: post.excerpt || '',
+          content: post.content,
+          category: post.category,
+          date: post.createdAt,
+          readTime: this.calculateReadTime(post.content, post.readingMinutes),
+          author: (post.author?.firstName || '') + (post.author?.lastName ? ' ' + post.author.lastName : '') || 'Unknown',
+          tags: post.tags ? post.tags.split(',').map((tag: string) => tag.trim()) : [],
+          featured: post.featured || false,
+          image: post.featuredImageUrl || this.generateDefaultImage(post.title),
+          slug: post.slug,
+          likes: post.likeCount || 0,
+          viewCount: post.viewCount || 0,
+          isLiked: false,
+          status: post.status || 'PUBLISHED'
+        }));
+      } else {
+        throw new Error(result.message || 'Failed to fetch related posts');
+      }
+    } catch (error) {
+      console.error('Error fetching related posts:', error);
+      return [];
+    }
+  }
+
   // Toggle like for a blog post
   async toggleLike(postId: number): Promise<ApiResponse<{ isLiked: boolean; likeCount: number }>> {
     try {
@@ -41,15 +41,10 @@ class BlogService {
     }
   }
 
-  // Get related posts (random 3 posts excluding current post)
+  // Get related posts (precomputed on the server by content similarity)
   async getRelatedPosts(currentPostId: number, limit: number = 3): Promise<BlogPost[]> {
     try {
-      const response = await apiService.getBlogPosts(1, 100);
-      const allPosts = response.posts.filter(post => post.id !== currentPostId);
-      
-      // Shuffle array and take first 'limit' posts
-      const shuffled = allPosts.sort(() => 0.5 - Math.random());
-      return shuffled.slice(0, limit);
+      return await apiService.getRelatedPosts(currentPostId, limit);
     } catch (error) {
       console.error('Error fetching related posts:', error);
       return [];